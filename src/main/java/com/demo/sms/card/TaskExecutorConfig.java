@@ -0,0 +1,20 @@
+package com.demo.sms.card;
+
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 애플리케이션 기본 executor - MVC 비동기 요청(엑셀 다운로드 스트리밍 등)과 @Async가 사용
+ * 가져오기 전용 풀처럼 다른 Executor 빈이 있어도 자동 구성에 기대지 않도록 직접 등록하고,
+ * 풀 설정(spring.task.execution.*)과 TaskDecorator 빈(복제본 라우팅 전달)은 Boot 빌더로 그대로 적용
+ */
+@Configuration(proxyBeanMethods = false)
+public class TaskExecutorConfig {
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
@@ -1,14 +1,22 @@
 package com.demo.sms.card.controller;
 
 import com.demo.sms.card.dto.BusinessCardDto;
-import com.demo.sms.card.dto.UploadResult;
+import com.demo.sms.card.dto.CardListRow;
+import com.demo.sms.card.dto.CardStatistics;
+import com.demo.sms.card.dto.CardWindow;
 import com.demo.sms.card.entity.BusinessCard;
 import com.demo.sms.card.entity.BusinessCard.Category;
 import com.demo.sms.card.entity.User;
+import com.demo.sms.card.importer.ImportJob;
+import com.demo.sms.card.importer.ImportJobService;
 import com.demo.sms.card.service.BusinessCardService;
+import com.demo.sms.card.util.ExcelUtil;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,12 +24,12 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +40,7 @@ import java.util.Optional;
 public class BusinessCardController {
 
     private final BusinessCardService businessCardService;
+    private final ImportJobService importJobService;
 
     @ModelAttribute
     public void addUserToModel(HttpSession session, Model model) {
@@ -54,6 +63,8 @@ public class BusinessCardController {
             @RequestParam(required = false, defaultValue = "all") String searchField,
             @RequestParam(required = false, defaultValue = "recent") String sortBy,
             @RequestParam(required = false, defaultValue = "1") int page,
+            @RequestParam(required = false, defaultValue = "offset") String pagingMode,
+            @RequestParam(required = false) String cursor,
             HttpSession session,
             Model model) {
 
@@ -61,36 +72,46 @@ public class BusinessCardController {
 
         int pageSize = 20;
 
-        // 전체 검색 결과
-        List<BusinessCard> allCards = businessCardService.searchCards(user, category, keyword, searchField, sortBy);
+        // 커서(키셋) 페이징 - 전체 건수 없이 이전/다음 커서로 이동
+        if ("cursor".equals(pagingMode)) {
+            CardWindow window = businessCardService.scrollCards(user, category, keyword, searchField, sortBy,
+                    cursor, pageSize);
 
-        // 총 페이지 수 계산
-        int totalCards = allCards.size();
-        int totalPages = (int) Math.ceil((double) totalCards / pageSize);
+            model.addAttribute("cards", window.getCards());
+            model.addAttribute("nextCursor", window.getNextCursor());
+            model.addAttribute("prevCursor", window.getPrevCursor());
+            model.addAttribute("totalPages", 0);
+            addListAttributes(model, user, category, keyword, searchField, sortBy, pagingMode);
+            saveSearchContext(session, category, keyword, searchField, sortBy);
+
+            return "cards/list";
+        }
 
         // 페이지 유효성 검사
         if (page < 1) page = 1;
-        if (page > totalPages && totalPages > 0) page = totalPages;
 
-        // 현재 페이지 데이터
-        int start = (page - 1) * pageSize;
-        int end = Math.min(start + pageSize, totalCards);
-        List<BusinessCard> cards = totalCards > 0 ? allCards.subList(start, end) : new ArrayList<>();
+        // 현재 페이지 데이터 (LIMIT/OFFSET + count 쿼리)
+        Page<CardListRow> cardPage = businessCardService.searchCards(user, category, keyword, searchField, sortBy,
+                PageRequest.of(page - 1, pageSize));
+
+        // 마지막 페이지를 넘어선 경우 마지막 페이지로 다시 조회
+        if (page > cardPage.getTotalPages() && cardPage.getTotalPages() > 0) {
+            page = cardPage.getTotalPages();
+            cardPage = businessCardService.searchCards(user, category, keyword, searchField, sortBy,
+                    PageRequest.of(page - 1, pageSize));
+        }
+
+        List<CardListRow> cards = cardPage.getContent();
+        long totalCards = cardPage.getTotalElements();
+        int totalPages = cardPage.getTotalPages();
 
         // 페이지 번호 목록 생성 (최대 10개씩)
         int startPage = ((page - 1) / 10) * 10 + 1;
         int endPage = Math.min(startPage + 9, totalPages);
 
         model.addAttribute("cards", cards);
-        model.addAttribute("categories", Category.values());
-        model.addAttribute("selectedCategory", category);
-        model.addAttribute("keyword", keyword);
-        model.addAttribute("searchField", searchField);
-        model.addAttribute("sortBy", sortBy);
-        model.addAttribute("categoryStats", businessCardService.getCategoryStatistics(user));
-        model.addAttribute("recentCards", businessCardService.getRecentCards(user, 5));
-        model.addAttribute("totalCount", businessCardService.getTotalCount(user));
         model.addAttribute("searchCount", totalCards);
+        addListAttributes(model, user, category, keyword, searchField, sortBy, pagingMode);
 
         // 페이징 정보
         model.addAttribute("currentPage", page);
@@ -101,12 +122,32 @@ public class BusinessCardController {
         model.addAttribute("hasNext", page < totalPages);
 
         // 검색 컨텍스트 저장
+        saveSearchContext(session, category, keyword, searchField, sortBy);
+
+        return "cards/list";
+    }
+
+    private void addListAttributes(Model model, User user, Category category, String keyword,
+                                   String searchField, String sortBy, String pagingMode) {
+        model.addAttribute("categories", Category.values());
+        model.addAttribute("selectedCategory", category);
+        model.addAttribute("keyword", keyword);
+        model.addAttribute("searchField", searchField);
+        model.addAttribute("sortBy", sortBy);
+        model.addAttribute("pagingMode", pagingMode);
+
+        CardStatistics statistics = businessCardService.getCardStatistics(user);
+        model.addAttribute("categoryStats", statistics.getByCategory());
+        model.addAttribute("recentCards", businessCardService.getRecentCards(user, 5));
+        model.addAttribute("totalCount", statistics.getTotal());
+    }
+
+    private void saveSearchContext(HttpSession session, Category category, String keyword,
+                                   String searchField, String sortBy) {
         session.setAttribute("lastSearchCategory", category);
         session.setAttribute("lastSearchKeyword", keyword);
         session.setAttribute("lastSearchField", searchField);
         session.setAttribute("lastSearchSortBy", sortBy);
-
-        return "cards/list";
     }
 
     @GetMapping("/{id}")
@@ -119,9 +160,16 @@ public class BusinessCardController {
         try {
             BusinessCard card = businessCardService.getCard(id, user);
 
-            // 이전/다음 명함
-            Optional<BusinessCard> previousCard = businessCardService.getPreviousCard(id, user);
-            Optional<BusinessCard> nextCard = businessCardService.getNextCard(id, user);
+            // 이전/다음 명함 (마지막 검색 조건과 정렬 순서 기준)
+            Category lastCategory = (Category) session.getAttribute("lastSearchCategory");
+            String lastKeyword = (String) session.getAttribute("lastSearchKeyword");
+            String lastField = (String) session.getAttribute("lastSearchField");
+            String lastSortBy = (String) session.getAttribute("lastSearchSortBy");
+
+            Optional<BusinessCard> previousCard = businessCardService.getPreviousCard(card, user,
+                    lastCategory, lastKeyword, lastField, lastSortBy);
+            Optional<BusinessCard> nextCard = businessCardService.getNextCard(card, user,
+                    lastCategory, lastKeyword, lastField, lastSortBy);
 
             model.addAttribute("card", card);
             model.addAttribute("previousCard", previousCard.orElse(null));
@@ -129,10 +177,10 @@ public class BusinessCardController {
             model.addAttribute("categories", Category.values());
 
             // 검색 컨텍스트 전달
-            model.addAttribute("lastSearchCategory", session.getAttribute("lastSearchCategory"));
-            model.addAttribute("lastSearchKeyword", session.getAttribute("lastSearchKeyword"));
-            model.addAttribute("lastSearchField", session.getAttribute("lastSearchField"));
-            model.addAttribute("lastSearchSortBy", session.getAttribute("lastSearchSortBy"));
+            model.addAttribute("lastSearchCategory", lastCategory);
+            model.addAttribute("lastSearchKeyword", lastKeyword);
+            model.addAttribute("lastSearchField", lastField);
+            model.addAttribute("lastSearchSortBy", lastSortBy);
 
             return "cards/view";
         } catch (Exception e) {
@@ -142,11 +190,16 @@ public class BusinessCardController {
     }
 
     @GetMapping("/duplicates")
-    public String duplicatesPage(HttpSession session, Model model) {
+    public String duplicatesPage(@RequestParam(required = false, defaultValue = "exact") String mode,
+                                 HttpSession session, Model model) {
         User user = (User) session.getAttribute("user");
 
-        Map<String, List<BusinessCard>> duplicates = businessCardService.findDuplicates(user);
+        // exact: 이름 + 휴대폰/이메일 일치, fuzzy: 오타/표기 차이까지 포함한 유사 중복
+        Map<String, List<BusinessCard>> duplicates = "fuzzy".equals(mode)
+                ? businessCardService.findNearDuplicates(user)
+                : businessCardService.findDuplicates(user);
 
+        model.addAttribute("mode", mode);
         model.addAttribute("duplicates", duplicates);
         model.addAttribute("totalDuplicates", duplicates.values().stream().mapToInt(List::size).sum());
 
@@ -173,6 +226,7 @@ public class BusinessCardController {
 
     @PostMapping("/duplicates/delete/{id}")
     public String deleteDuplicateCard(@PathVariable Long id,
+                                      @RequestParam(required = false, defaultValue = "exact") String mode,
                                       HttpSession session,
                                       RedirectAttributes redirectAttributes) {
         User user = (User) session.getAttribute("user");
@@ -184,6 +238,7 @@ public class BusinessCardController {
             redirectAttributes.addFlashAttribute("error", "명함 삭제 중 오류가 발생했습니다: " + e.getMessage());
         }
 
+        redirectAttributes.addAttribute("mode", mode);
         return "redirect:/cards/duplicates";
     }
 
@@ -308,72 +363,65 @@ public class BusinessCardController {
                 return "redirect:/cards/upload";
             }
 
-            UploadResult result = businessCardService.uploadExcel(file, category, user, duplicateAction);
-
-            // 세션에 결과 저장
-            session.setAttribute("uploadResult", result);
-            session.setAttribute("uploadFileName", file.getOriginalFilename());
-            session.setAttribute("uploadCategory", category.getDisplayName());
+            // 백그라운드 작업으로 등록하고 바로 결과(진행률) 페이지로 이동
+            String jobId = importJobService.submit(file, category, user, duplicateAction);
 
-            return "redirect:/cards/upload/result";
+            return "redirect:/cards/upload/result?jobId=" + jobId;
 
         } catch (IOException e) {
             redirectAttributes.addFlashAttribute("error", "파일 처리 중 오류가 발생했습니다: " + e.getMessage());
             return "redirect:/cards/upload";
+        } catch (TaskRejectedException e) {
+            // 가져오기 대기열이 가득 참
+            redirectAttributes.addFlashAttribute("error", "처리 중인 업로드가 많습니다. 잠시 후 다시 시도해주세요.");
+            return "redirect:/cards/upload";
         }
     }
 
     @GetMapping("/upload/result")
-    public String uploadResult(HttpSession session, Model model, RedirectAttributes redirectAttributes) {
-        UploadResult result = (UploadResult) session.getAttribute("uploadResult");
-        String fileName = (String) session.getAttribute("uploadFileName");
-        String categoryName = (String) session.getAttribute("uploadCategory");
+    public String uploadResult(@RequestParam(required = false) String jobId,
+                               HttpSession session, Model model, RedirectAttributes redirectAttributes) {
+        User user = (User) session.getAttribute("user");
+        Optional<ImportJob> job = importJobService.getJob(jobId, user);
 
-        if (result == null) {
+        if (job.isEmpty()) {
             redirectAttributes.addFlashAttribute("error", "업로드 결과를 찾을 수 없습니다.");
             return "redirect:/cards/upload";
         }
 
-        model.addAttribute("result", result);
-        model.addAttribute("fileName", fileName);
-        model.addAttribute("categoryName", categoryName);
-
-        // 세션에서 제거
-        session.removeAttribute("uploadResult");
-        session.removeAttribute("uploadFileName");
-        session.removeAttribute("uploadCategory");
+        model.addAttribute("job", job.get());
+        model.addAttribute("result", job.get().getResult());
+        model.addAttribute("fileName", job.get().getFileName());
+        model.addAttribute("categoryName", job.get().getCategoryName());
 
         return "cards/upload-result";
     }
 
-    //엑셀 다운로드
+    //엑셀 다운로드 (조회와 동시에 응답 본문으로 스트리밍)
     @GetMapping("/download")
-    public ResponseEntity<ByteArrayResource> downloadExcel(@RequestParam(required = false) Category category,
-                                                           @RequestParam(required = false) String keyword,
-                                                           @RequestParam(required = false, defaultValue = "all") String searchField,
-                                                           @RequestParam(required = false, defaultValue = "recent") String sortBy,
-                                                           HttpSession session) {
+    public ResponseEntity<StreamingResponseBody> downloadExcel(@RequestParam(required = false) Category category,
+                                                               @RequestParam(required = false) String keyword,
+                                                               @RequestParam(required = false, defaultValue = "all") String searchField,
+                                                               @RequestParam(required = false, defaultValue = "recent") String sortBy,
+                                                               HttpSession session) {
         User user = (User) session.getAttribute("user");
 
-        try {
-            List<BusinessCard> cards = businessCardService.searchCards(user, category, keyword, searchField, sortBy);
-            byte[] excelData = businessCardService.exportToExcel(cards);
-
-            ByteArrayResource resource = new ByteArrayResource(excelData);
+        String filename = "명함목록_" +
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) +
+                ".xlsx";
 
-            String filename = "명함목록_" +
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) +
-                    ".xlsx";
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .contentLength(excelData.length)
-                    .body(resource);
+        // 행 조회는 서비스 트랜잭션 안에서 끝내고, 네트워크로 내보내는 동안에는 커넥션을 잡지 않음
+        StreamingResponseBody body = outputStream -> {
+            try (ExcelUtil.CardSheetWriter writer =
+                         businessCardService.exportToExcel(user, category, keyword, searchField, sortBy)) {
+                writer.writeTo(outputStream);
+            }
+        };
 
-        } catch (IOException e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .body(body);
     }
 
     //이메일 다운로드
@@ -390,10 +438,9 @@ public class BusinessCardController {
         User user = (User) session.getAttribute("user");
 
         try {
-            List<BusinessCard> cards = businessCardService.searchCards(user, category, keyword, searchField, sortBy);
-
             // 이메일 TXT 파일 생성
-            byte[] emailData = businessCardService.exportEmailsToTxt(cards, excludeCompanies, semicolon);
+            byte[] emailData = businessCardService.exportEmailsToTxt(user, category, keyword, searchField, sortBy,
+                    excludeCompanies, semicolon);
 
             ByteArrayResource resource = new ByteArrayResource(emailData);
 
@@ -0,0 +1,34 @@
+package com.demo.sms.card.controller;
+
+import com.demo.sms.card.dto.ImportProgress;
+import com.demo.sms.card.entity.User;
+import com.demo.sms.card.importer.ImportJobService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cards")
+@RequiredArgsConstructor
+public class CardImportController {
+
+    private final ImportJobService importJobService;
+
+    // 엑셀 가져오기 진행률 (업로드 결과 페이지에서 주기적으로 조회)
+    @GetMapping("/upload/progress")
+    public ResponseEntity<ImportProgress> progress(@RequestParam String jobId, HttpSession session) {
+        User user = (User) session.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return importJobService.getJob(jobId, user)
+                .map(job -> ResponseEntity.ok(importJobService.toProgress(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
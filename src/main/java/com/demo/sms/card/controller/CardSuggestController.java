@@ -0,0 +1,38 @@
+package com.demo.sms.card.controller;
+
+import com.demo.sms.card.dto.Suggestion;
+import com.demo.sms.card.entity.User;
+import com.demo.sms.card.search.CardSuggester;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/cards")
+@RequiredArgsConstructor
+public class CardSuggestController {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final CardSuggester cardSuggester;
+
+    // 검색창 자동완성 (이름/회사)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Suggestion>> suggest(@RequestParam String prefix,
+                                                    @RequestParam(required = false, defaultValue = "10") int limit,
+                                                    HttpSession session) {
+        User user = (User) session.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(cardSuggester.suggest(user.getId(), prefix, Math.min(limit, MAX_LIMIT)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.demo.sms.card.datasource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연으로 방금 커밋된 변경을 놓치면 안 되는 조회를 주 DB에서 실행 (캐시 무효화 직후 재구성 등)
+ * 호출한 쪽 트랜잭션이 이미 복제본 커넥션을 잡았을 수 있으므로 새 읽기 전용 트랜잭션에서 실행
+ */
+@Component
+public class PrimaryReader {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        // 이미 주 DB가 지정된 스레드(쓰기 요청, 가져오기 작업)는 지정을 그대로 둠
+        boolean primaryForced = ReplicaRoutingContext.isPrimaryForced();
+        ReplicaRoutingContext.forcePrimary();
+        try {
+            return transactionTemplate.execute(status -> query.get());
+        } finally {
+            if (!primaryForced) {
+                ReplicaRoutingContext.clear();
+            }
+        }
+    }
+}
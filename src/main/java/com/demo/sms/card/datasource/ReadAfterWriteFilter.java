@@ -0,0 +1,68 @@
+package com.demo.sms.card.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 쓰기 요청(GET/HEAD 외)과, 쓰기 요청 후 일정 시간 안의 같은 세션 요청은 조회도 주 DB에서 처리
+ * (복제 지연 때문에 방금 저장/삭제한 명함이 목록에 반영되지 않는 것을 방지)
+ */
+public class ReadAfterWriteFilter extends OncePerRequestFilter {
+
+    static final String LAST_WRITE_AT = ReadAfterWriteFilter.class.getName() + ".LAST_WRITE_AT";
+
+    private final long windowMillis;
+
+    public ReadAfterWriteFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+
+        if (write) {
+            markWrite(request);
+        }
+        if (write || isWithinWindow(request.getSession(false))) {
+            ReplicaRoutingContext.forcePrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+            // 요청 중 새로 만들어진 세션(로그인)도 기록하고, 오래 걸린 요청은 끝난 시점부터 다시 계산
+            if (write) {
+                markWrite(request);
+            }
+        }
+    }
+
+    private void markWrite(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.setAttribute(LAST_WRITE_AT, System.currentTimeMillis());
+        }
+    }
+
+    private boolean isWithinWindow(HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        try {
+            return session.getAttribute(LAST_WRITE_AT) instanceof Long lastWriteAt
+                    && System.currentTimeMillis() - lastWriteAt < windowMillis;
+        } catch (IllegalStateException e) {
+            return false;   // 이미 무효화된 세션
+        }
+    }
+}
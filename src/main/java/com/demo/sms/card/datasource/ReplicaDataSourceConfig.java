@@ -0,0 +1,44 @@
+package com.demo.sms.card.datasource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 읽기 복제본 라우팅 - card.datasource.replicas[0].url 이 설정된 경우에만 적용
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "card.datasource", name = "replicas[0].url")
+public class ReplicaDataSourceConfig {
+
+    // 후처리기는 다른 빈보다 먼저 만들어지므로 static 메서드로 등록하고 설정은 직접 바인딩
+    @Bean
+    public static ReplicaDataSourcePostProcessor replicaDataSourcePostProcessor(Environment environment) {
+        return new ReplicaDataSourcePostProcessor(ReplicaProperties.bind(environment));
+    }
+
+    @Bean
+    public ReadAfterWriteFilter readAfterWriteFilter(Environment environment) {
+        return new ReadAfterWriteFilter(ReplicaProperties.bind(environment).getReadAfterWriteWindow());
+    }
+
+    // 엑셀 다운로드처럼 비동기 스레드에서 이어지는 요청에도 주 DB 지정을 전달
+    @Bean
+    public TaskDecorator replicaRoutingTaskDecorator() {
+        return task -> {
+            boolean primaryForced = ReplicaRoutingContext.isPrimaryForced();
+            return () -> {
+                if (primaryForced) {
+                    ReplicaRoutingContext.forcePrimary();
+                }
+                try {
+                    task.run();
+                } finally {
+                    ReplicaRoutingContext.clear();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.demo.sms.card.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 자동 구성된 주 DB 커넥션 풀(dataSource)을 ReplicaRoutingDataSource로 감쌈
+ * 복제본 풀은 주 DB 풀 설정(드라이버, 풀 크기, 드라이버 속성)을 그대로 따르고 read-only로 생성
+ */
+public class ReplicaDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ReplicaProperties properties;
+
+    public ReplicaDataSourcePostProcessor(ReplicaProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof HikariDataSource primary)
+                || properties.getReplicas().isEmpty()) {
+            return bean;
+        }
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(createReplica(primary, properties.getReplicas().get(i), i));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    private HikariDataSource createReplica(HikariDataSource primary, ReplicaProperties.Replica replica, int index) {
+        if (replica.getUrl() == null || replica.getUrl().isBlank()) {
+            throw new IllegalStateException("card.datasource.replicas[" + index + "].url 설정이 없습니다.");
+        }
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("card-replica-" + index);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        dataSource.setDriverClassName(primary.getDriverClassName());
+        dataSource.setMaximumPoolSize(primary.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(primary.getConnectionTimeout());
+        dataSource.setDataSourceProperties(primary.getDataSourceProperties());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,39 @@
+package com.demo.sms.card.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * card.datasource.* - 읽기 복제본 목록과 쓰기 후 주 DB를 계속 사용할 시간
+ */
+@Getter
+@Setter
+public class ReplicaProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 쓰기 요청 뒤 같은 세션의 조회를 주 DB로 보내는 시간 (복제 지연 동안 자신이 쓴 내용을 보도록)
+    private Duration readAfterWriteWindow = Duration.ofSeconds(5);
+
+    /**
+     * DataSource 빈 후처리기처럼 바인딩이 적용되기 전에 필요한 곳에서 사용
+     */
+    public static ReplicaProperties bind(Environment environment) {
+        return Binder.get(environment).bind("card.datasource", ReplicaProperties.class)
+                .orElseGet(ReplicaProperties::new);
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
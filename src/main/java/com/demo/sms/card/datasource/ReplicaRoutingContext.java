@@ -0,0 +1,24 @@
+package com.demo.sms.card.datasource;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 주 DB로 보낼지 여부 (쓰기 요청, 방금 쓴 세션)
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+}
@@ -0,0 +1,78 @@
+package com.demo.sms.card.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 DB로 보내는 DataSource
+ * 실제 커넥션은 첫 SQL 실행 시점에 가져오므로 트랜잭션 시작 때 지정된 read-only 여부로 대상을 고름
+ * 복제본은 순서대로 돌아가며 사용하고, ReplicaRoutingContext가 주 DB를 지정하면 주 DB 사용
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        super(primary);
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("복제본 DataSource가 없습니다.");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        setReadOnlyDataSource(new ReplicaSelector(primary, this.replicas));
+    }
+
+    /**
+     * 주 DB와 복제본 커넥션 풀 종료 (컨텍스트 종료 시 호출)
+     */
+    @Override
+    public void close() throws IOException {
+        List<DataSource> dataSources = new ArrayList<>(replicas);
+        dataSources.add(primary);
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class ReplicaSelector extends AbstractRoutingDataSource {
+
+        private static final String PRIMARY = "primary";
+
+        private final List<String> replicaKeys = new ArrayList<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        private ReplicaSelector(DataSource primary, List<DataSource> replicas) {
+            Map<Object, Object> targets = new HashMap<>();
+            targets.put(PRIMARY, primary);
+            for (int i = 0; i < replicas.size(); i++) {
+                String key = "replica-" + i;
+                targets.put(key, replicas.get(i));
+                replicaKeys.add(key);
+            }
+
+            setTargetDataSources(targets);
+            setDefaultTargetDataSource(primary);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (ReplicaRoutingContext.isPrimaryForced()) {
+                return PRIMARY;
+            }
+            return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+        }
+    }
+}
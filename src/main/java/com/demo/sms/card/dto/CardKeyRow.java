@@ -0,0 +1,12 @@
+package com.demo.sms.card.dto;
+
+/**
+ * 중복 판정 키 구성용 경량 조회 결과
+ */
+public interface CardKeyRow {
+    Long getId();
+    String getName();
+    String getCompany();
+    String getMobileKey();
+    String getEmailKey();
+}
@@ -0,0 +1,21 @@
+package com.demo.sms.card.dto;
+
+import com.demo.sms.card.entity.BusinessCard.Category;
+import java.time.LocalDateTime;
+
+/**
+ * 명함 목록 한 줄 (목록 표에 표시하는 컬럼만)
+ */
+public interface CardListRow {
+    Long getId();
+    String getName();
+    String getCompany();
+    String getDepartment();
+    String getPosition();
+    String getAddress();
+    String getMobilePhone();
+    String getEmail();
+    Category getCategory();
+    String getNotes();
+    LocalDateTime getCreatedAt();
+}
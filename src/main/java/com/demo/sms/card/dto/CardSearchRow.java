@@ -0,0 +1,16 @@
+package com.demo.sms.card.dto;
+
+import com.demo.sms.card.entity.BusinessCard.Category;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 구성용 경량 조회 결과
+ */
+public interface CardSearchRow {
+    Long getId();
+    String getName();
+    String getCompany();
+    String getPosition();
+    Category getCategory();
+    LocalDateTime getCreatedAt();
+}
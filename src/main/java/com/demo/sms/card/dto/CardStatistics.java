@@ -0,0 +1,19 @@
+package com.demo.sms.card.dto;
+
+import com.demo.sms.card.entity.BusinessCard.Category;
+import lombok.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CardStatistics {
+    @Builder.Default
+    private Map<Category, Long> byCategory = new EnumMap<>(Category.class);
+
+    private long total;
+}
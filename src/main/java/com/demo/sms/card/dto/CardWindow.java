@@ -0,0 +1,20 @@
+package com.demo.sms.card.dto;
+
+import lombok.*;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CardWindow {
+
+    @Builder.Default
+    private List<CardListRow> cards = new ArrayList<>();
+
+    // 다음/이전 페이지 커서 (없으면 null)
+    private String nextCursor;
+    private String prevCursor;
+}
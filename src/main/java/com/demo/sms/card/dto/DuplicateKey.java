@@ -0,0 +1,9 @@
+package com.demo.sms.card.dto;
+
+/**
+ * 중복으로 판정된 (이름, 정규화 연락처 키) 묶음
+ */
+public interface DuplicateKey {
+    String getName();
+    String getContactKey();
+}
@@ -0,0 +1,9 @@
+package com.demo.sms.card.dto;
+
+/**
+ * 이메일 목록 저장용 경량 조회 결과
+ */
+public interface EmailRow {
+    String getCompany();
+    String getEmail();
+}
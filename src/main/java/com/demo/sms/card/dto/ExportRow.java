@@ -0,0 +1,21 @@
+package com.demo.sms.card.dto;
+
+import com.demo.sms.card.entity.BusinessCard.Category;
+
+/**
+ * 엑셀 다운로드 한 행 (엑셀 컬럼만)
+ */
+public interface ExportRow {
+    String getName();
+    String getCompany();
+    String getDepartment();
+    String getPosition();
+    String getAddress();
+    String getOfficePhone();
+    String getOfficeFax();
+    String getMobilePhone();
+    String getEmail();
+    String getWebsite();
+    Category getCategory();
+    String getNotes();
+}
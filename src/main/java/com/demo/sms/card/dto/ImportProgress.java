@@ -0,0 +1,20 @@
+package com.demo.sms.card.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportProgress {
+    private String jobId;
+    private String status;
+    private boolean finished;
+    private int totalRows;
+    private int successCount;
+    private int updateCount;
+    private int skipCount;
+    private int errorCount;
+    private String message;
+}
@@ -0,0 +1,13 @@
+package com.demo.sms.card.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 등록 명함 요약
+ */
+public interface RecentCard {
+    Long getId();
+    String getName();
+    String getCompany();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,14 @@
+package com.demo.sms.card.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Suggestion {
+    private String text;
+    private String type;    // name, company
+    private long count;
+}
@@ -0,0 +1,12 @@
+package com.demo.sms.card.dto;
+
+/**
+ * 사용자별 전체/카테고리별 명함 수
+ */
+public interface SummaryCounts {
+    long getTotal();
+    long getCompanyCount();
+    long getSchoolCount();
+    long getAssociationCount();
+    long getGovernmentCount();
+}
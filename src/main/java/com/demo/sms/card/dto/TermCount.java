@@ -0,0 +1,9 @@
+package com.demo.sms.card.dto;
+
+/**
+ * 값별 건수 집계 결과
+ */
+public interface TermCount {
+    String getTerm();
+    Long getFrequency();
+}
@@ -14,6 +14,7 @@ public class UploadResult {
     private int successCount;
     private int updateCount;
     private int skipCount;
+    private int resumedFromRow;     // 이전 가져오기에서 이미 커밋된 마지막 행 (0이면 처음부터)
 
     @Builder.Default
     private List<String> errors = new ArrayList<>();
@@ -1,11 +1,18 @@
 package com.demo.sms.card.entity;
 
+import com.demo.sms.card.util.ContactNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "business_card")
+@Table(name = "business_card", indexes = {
+        @Index(name = "idx_card_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_card_user_category_created", columnList = "user_id, category, created_at, id"),
+        @Index(name = "idx_card_user_name", columnList = "user_id, name, id"),
+        @Index(name = "idx_card_user_mobile_key", columnList = "user_id, mobile_key"),
+        @Index(name = "idx_card_user_email_key", columnList = "user_id, email_key")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -58,6 +65,13 @@ public class BusinessCard {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 중복 판정용 정규화 키 (휴대폰: 국가번호 포함 숫자열, 이메일: 마지막 주소 소문자)
+    @Column(name = "mobile_key", length = 20)
+    private String mobileKey;
+
+    @Column(name = "email_key", length = 100)
+    private String emailKey;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -68,11 +82,18 @@ public class BusinessCard {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        updateContactKeys();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        updateContactKeys();
+    }
+
+    public void updateContactKeys() {
+        mobileKey = ContactNormalizer.phoneKey(mobilePhone);
+        emailKey = ContactNormalizer.emailKey(email);
     }
 
     public enum Category {
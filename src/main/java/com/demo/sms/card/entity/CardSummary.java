@@ -0,0 +1,41 @@
+package com.demo.sms.card.entity;
+
+import com.demo.sms.card.dto.SummaryCounts;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 명함 집계 (목록 화면 통계용, 명함 변경 시 같은 트랜잭션에서 증감)
+ */
+@Entity
+@Table(name = "card_summary")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CardSummary implements SummaryCounts {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(name = "company_count", nullable = false)
+    private long companyCount;
+
+    @Column(name = "school_count", nullable = false)
+    private long schoolCount;
+
+    @Column(name = "association_count", nullable = false)
+    private long associationCount;
+
+    @Column(name = "government_count", nullable = false)
+    private long governmentCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
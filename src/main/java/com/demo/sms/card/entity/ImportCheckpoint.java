@@ -0,0 +1,70 @@
+package com.demo.sms.card.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 엑셀 가져오기 진행 기록 - 마지막으로 커밋한 행과 누적 건수, 가져오기 옵션
+ * (같은 파일을 같은 옵션으로 다시 올리면 이어서 처리, 오류/중복 메시지는 ImportCheckpointMessage에 저장)
+ */
+@Entity
+@Table(name = "import_checkpoint", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_import_checkpoint_user_file", columnNames = {"user_id", "file_hash"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 파일 내용의 SHA-256 (파일명이 같아도 내용이 다르면 새로 가져옴)
+    @Column(name = "file_hash", nullable = false, length = 64)
+    private String fileHash;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    // 가져오기 옵션 - 다른 옵션으로는 이어서 가져올 수 없음
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private BusinessCard.Category category;
+
+    @Column(name = "duplicate_action", length = 20)
+    private String duplicateAction;
+
+    @Column(name = "last_row")
+    private int lastRow;
+
+    @Column(name = "total_rows")
+    private int totalRows;
+
+    @Column(name = "success_count")
+    private int successCount;
+
+    @Column(name = "update_count")
+    private int updateCount;
+
+    @Column(name = "skip_count")
+    private int skipCount;
+
+    @Column(name = "error_count")
+    private int errorCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.demo.sms.card.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 엑셀 가져오기 진행 중 쌓인 오류/중복 메시지 (이어서 가져올 때 결과 화면에 함께 표시)
+ * 청크마다 새로 생긴 메시지만 추가하므로 체크포인트 행을 다시 쓰지 않음
+ */
+@Entity
+@Table(name = "import_checkpoint_message", indexes = {
+        @Index(name = "idx_import_checkpoint_message_checkpoint", columnList = "checkpoint_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportCheckpointMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "checkpoint_id", nullable = false)
+    private Long checkpointId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    public enum Type {
+        ERROR, DUPLICATE
+    }
+}
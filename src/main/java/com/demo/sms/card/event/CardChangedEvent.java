@@ -0,0 +1,37 @@
+package com.demo.sms.card.event;
+
+import com.demo.sms.card.entity.BusinessCard;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 명함 변경 이벤트 - 커밋 이후 검색 인덱스/캐시 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CardChangedEvent {
+
+    public enum Type {
+        SAVED,      // 등록/수정 (card 포함)
+        DELETED,    // 단건 삭제 (cardId 포함)
+        BULK        // 업로드/중복 제거 등 대량 변경 (사용자 단위 무효화)
+    }
+
+    private final Long userId;
+    private final Type type;
+    private final BusinessCard card;
+    private final Long cardId;
+
+    public static CardChangedEvent saved(Long userId, BusinessCard card) {
+        return new CardChangedEvent(userId, Type.SAVED, card, card.getId());
+    }
+
+    public static CardChangedEvent deleted(Long userId, Long cardId) {
+        return new CardChangedEvent(userId, Type.DELETED, null, cardId);
+    }
+
+    public static CardChangedEvent bulk(Long userId) {
+        return new CardChangedEvent(userId, Type.BULK, null, null);
+    }
+}
@@ -0,0 +1,67 @@
+package com.demo.sms.card.importer;
+
+import com.demo.sms.card.service.ImportPipelineExecutors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+
+/**
+ * 엑셀 가져오기 전용 스레드 풀 (애플리케이션 기본 executor, 공용 ForkJoinPool과 분리)
+ * <ul>
+ *   <li>importTaskExecutor: 가져오기 작업 (대기열이 가득 차면 TaskRejectedException)</li>
+ *   <li>importParseExecutor: 작업마다 파서 하나 - 동시에 실행되는 가져오기 수만큼</li>
+ *   <li>importNormalizeExecutor: 묶음 정규화 - 작업마다 대기 묶음 수가 제한되므로 대기열은 제한하지 않음</li>
+ * </ul>
+ * 컨테이너가 초기화/종료를 관리하며, 종료 시 진행 중인 가져오기가 끝나기를 기다림
+ * 타입으로는 주입되지 않도록 defaultCandidate = false - 이름(@Qualifier)으로 지정한 곳에서만 사용
+ */
+@Configuration(proxyBeanMethods = false)
+public class ImportExecutorConfig {
+
+    // 파이프라인 풀은 가져오기 작업 풀보다 늦게 종료 (진행 중인 가져오기가 끝날 때까지 사용)
+    @Bean(defaultCandidate = false)
+    @DependsOn({"importParseExecutor", "importNormalizeExecutor"})
+    public ThreadPoolTaskExecutor importTaskExecutor(@Value("${card.import.pool-size:2}") int poolSize,
+                                                     @Value("${card.import.queue-capacity:20}") int queueCapacity,
+                                                     @Value("${card.import.shutdown-timeout:PT60S}") Duration shutdownTimeout) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("card-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(shutdownTimeout.toMillis());
+        return executor;
+    }
+
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor importParseExecutor(@Value("${card.import.pool-size:2}") int poolSize) {
+        return pipelineExecutor("card-import-parser-", poolSize);
+    }
+
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor importNormalizeExecutor(@Value("${card.import.normalize-pool-size:4}") int poolSize) {
+        return pipelineExecutor("card-import-normalize-", poolSize);
+    }
+
+    @Bean
+    public ImportPipelineExecutors importPipelineExecutors(
+            @Qualifier("importParseExecutor") ThreadPoolTaskExecutor parseExecutor,
+            @Qualifier("importNormalizeExecutor") ThreadPoolTaskExecutor normalizeExecutor) {
+        return new ImportPipelineExecutors(parseExecutor, normalizeExecutor);
+    }
+
+    private ThreadPoolTaskExecutor pipelineExecutor(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,58 @@
+package com.demo.sms.card.importer;
+
+import com.demo.sms.card.dto.UploadResult;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 엑셀 가져오기 작업 상태
+ * result는 작업 스레드가 갱신하고, 진행률 조회는 다른 스레드에서 읽음 (status는 volatile로 완료 시점 공개)
+ */
+@Getter
+public class ImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String jobId;
+    private final Long userId;
+    private final String fileName;
+    private final String categoryName;
+    private final UploadResult result = UploadResult.builder().build();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    ImportJob(String jobId, Long userId, String fileName, String categoryName) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.fileName = fileName;
+        this.categoryName = categoryName;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+}
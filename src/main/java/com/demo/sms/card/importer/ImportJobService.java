@@ -0,0 +1,125 @@
+package com.demo.sms.card.importer;
+
+import com.demo.sms.card.dto.ImportProgress;
+import com.demo.sms.card.dto.UploadResult;
+import com.demo.sms.card.entity.BusinessCard.Category;
+import com.demo.sms.card.entity.User;
+import com.demo.sms.card.datasource.ReplicaRoutingContext;
+import com.demo.sms.card.service.BusinessCardService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엑셀 가져오기 작업 등록/실행/조회
+ * 업로드 파일은 요청이 끝나면 사라지므로 임시 파일로 복사해 두고 작업 스레드에서 처리
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private final BusinessCardService businessCardService;
+    private final ThreadPoolTaskExecutor importExecutor;
+    private final Duration retention;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(BusinessCardService businessCardService,
+                            @Qualifier("importTaskExecutor") ThreadPoolTaskExecutor importExecutor,
+                            @Value("${card.import.job-retention:PT1H}") Duration retention) {
+        this.businessCardService = businessCardService;
+        this.importExecutor = importExecutor;
+        this.retention = retention;
+    }
+
+    /**
+     * 가져오기 작업 등록 후 작업 id 반환 (대기열이 가득 차면 TaskRejectedException)
+     */
+    public String submit(MultipartFile file, Category category, User user, String duplicateAction) throws IOException {
+        removeExpiredJobs();
+
+        Path tempFile = Files.createTempFile("card-upload-", ".xlsx");
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), user.getId(),
+                file.getOriginalFilename(), category.getDisplayName());
+
+        try {
+            file.transferTo(tempFile);
+            jobs.put(job.getJobId(), job);
+            importExecutor.execute(() -> run(job, tempFile, category, user, duplicateAction));
+        } catch (IOException | TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        return job.getJobId();
+    }
+
+    /**
+     * 본인 작업만 조회
+     */
+    public Optional<ImportJob> getJob(String jobId, User user) {
+        if (user == null || jobId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.getUserId().equals(user.getId()));
+    }
+
+    public ImportProgress toProgress(ImportJob job) {
+        UploadResult result = job.getResult();
+        return ImportProgress.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name())
+                .finished(job.isFinished())
+                .totalRows(result.getTotalRows())
+                .successCount(result.getSuccessCount())
+                .updateCount(result.getUpdateCount())
+                .skipCount(result.getSkipCount())
+                .errorCount(result.getErrors().size())
+                .message(job.getMessage())
+                .build();
+    }
+
+    private void run(ImportJob job, Path file, Category category, User user, String duplicateAction) {
+        job.start();
+        // 이어받기 체크포인트와 중복 판정 키는 트랜잭션 밖에서 읽으므로 기본적으로 복제본으로 감
+        // - 복제 지연으로 방금 커밋된 묶음/명함을 놓치지 않도록 작업 전체를 주 DB에서 읽음
+        ReplicaRoutingContext.forcePrimary();
+        try {
+            businessCardService.importExcel(file, job.getFileName(), category, user, duplicateAction,
+                    job.getResult());
+            job.complete();
+        } catch (Exception e) {
+            log.warn("엑셀 가져오기 실패: jobId={}", job.getJobId(), e);
+            job.fail("파일 처리 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            ReplicaRoutingContext.clear();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", file, e);
+            }
+        }
+    }
+
+    // 끝난 지 retention이 지난 작업 정리
+    private void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,135 @@
+package com.demo.sms.card.repository;
+
+import com.demo.sms.card.entity.BusinessCard;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 엑셀 가져오기용 JDBC 일괄 저장
+ * IDENTITY 전략에서는 Hibernate가 INSERT를 묶지 못하므로 PreparedStatement 배치로 직접 실행
+ * (rewriteBatchedStatements=true 이면 드라이버가 다중 VALUES 한 문장으로 전송)
+ */
+@Repository
+public class BusinessCardBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO business_card (name, company, department, position, address, office_phone, office_fax, " +
+                    "mobile_phone, email, website, category, notes, user_id, mobile_key, email_key, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_IN_PARAMETERS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public BusinessCardBulkRepository(JdbcTemplate jdbcTemplate,
+                                      @Value("${card.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 명함 일괄 저장 후 생성된 id를 각 엔티티에 채움
+     */
+    public void insertAll(List<BusinessCard> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (BusinessCard card : cards) {
+                    card.setCreatedAt(now);
+                    card.setUpdatedAt(now);
+                    card.updateContactKeys();
+                    bind(statement, card);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next() && index < cards.size()) {
+                        cards.get(index++).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 중복 그룹(이름 + 휴대폰 키, 이름 + 이메일 키)마다 하나만 남기고 나머지 명함 id 조회
+     * 윈도 함수로 그룹 안 순번을 매겨 2번째 이후만 반환 (keepOldest면 가장 먼저 등록된 명함을 남김)
+     */
+    public List<Long> findRedundantDuplicateIds(Long userId, boolean keepOldest) {
+        String order = keepOldest ? "created_at ASC, id ASC" : "created_at DESC, id DESC";
+        String sql =
+                "SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY name, mobile_key ORDER BY " + order + ") AS rn " +
+                        "FROM business_card WHERE user_id = ? AND mobile_key IS NOT NULL) by_mobile WHERE rn > 1 " +
+                "UNION " +
+                "SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY name, email_key ORDER BY " + order + ") AS rn " +
+                        "FROM business_card WHERE user_id = ? AND email_key IS NOT NULL) by_email WHERE rn > 1";
+
+        return jdbcTemplate.queryForList(sql, Long.class, userId, userId);
+    }
+
+    /**
+     * id 목록으로 일괄 삭제 (IN 절은 MAX_IN_PARAMETERS 개씩 나눠 실행)
+     */
+    public int deleteAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> idList = new ArrayList<>(ids);
+        int deleted = 0;
+
+        for (int from = 0; from < idList.size(); from += MAX_IN_PARAMETERS) {
+            List<Long> chunk = idList.subList(from, Math.min(from + MAX_IN_PARAMETERS, idList.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            deleted += jdbcTemplate.update("DELETE FROM business_card WHERE id IN (" + placeholders + ")",
+                    chunk.toArray());
+        }
+
+        return deleted;
+    }
+
+    private void bind(PreparedStatement statement, BusinessCard card) throws SQLException {
+        statement.setString(1, card.getName());
+        statement.setString(2, card.getCompany());
+        statement.setString(3, card.getDepartment());
+        statement.setString(4, card.getPosition());
+        statement.setString(5, card.getAddress());
+        statement.setString(6, card.getOfficePhone());
+        statement.setString(7, card.getOfficeFax());
+        statement.setString(8, card.getMobilePhone());
+        statement.setString(9, card.getEmail());
+        statement.setString(10, card.getWebsite());
+        statement.setString(11, card.getCategory().name());
+        statement.setString(12, card.getNotes());
+        statement.setLong(13, card.getUser().getId());
+        statement.setString(14, card.getMobileKey());
+        statement.setString(15, card.getEmailKey());
+        statement.setObject(16, card.getCreatedAt());
+        statement.setObject(17, card.getUpdatedAt());
+    }
+}
@@ -1,214 +1,65 @@
 package com.demo.sms.card.repository;
 
+import com.demo.sms.card.dto.CardKeyRow;
+import com.demo.sms.card.dto.CardSearchRow;
+import com.demo.sms.card.dto.DuplicateKey;
+import com.demo.sms.card.dto.RecentCard;
+import com.demo.sms.card.dto.TermCount;
 import com.demo.sms.card.entity.BusinessCard;
-import com.demo.sms.card.entity.BusinessCard.Category;
-import com.demo.sms.card.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface BusinessCardRepository extends JpaRepository<BusinessCard, Long> {
+public interface BusinessCardRepository extends JpaRepository<BusinessCard, Long>,
+        JpaSpecificationExecutor<BusinessCard>, BusinessCardRowRepository {
 
-    List<BusinessCard> findByUser(User user);
+    // 최근 등록 명함 (필요한 컬럼만, LIMIT 적용)
+    List<RecentCard> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
 
-    List<BusinessCard> findByUserAndCategory(User user, Category category);
+    // 업로드 중복 판정 키 적재용 (필요한 컬럼만)
+    @Query("SELECT b.id AS id, b.name AS name, b.company AS company, b.mobileKey AS mobileKey, " +
+            "b.emailKey AS emailKey FROM BusinessCard b WHERE b.user.id = :userId")
+    List<CardKeyRow> findKeyRowsByUserId(@Param("userId") Long userId);
 
-    List<BusinessCard> findByUserOrderByCreatedAtDesc(User user);
+    // 중복 명함 찾기 - 2건 이상인 (이름, 정규화 키) 묶음만 조회
+    @Query("SELECT b.name AS name, b.mobileKey AS contactKey FROM BusinessCard b " +
+            "WHERE b.user.id = :userId AND b.mobileKey IS NOT NULL GROUP BY b.name, b.mobileKey HAVING COUNT(b) > 1")
+    List<DuplicateKey> findDuplicateMobileKeys(@Param("userId") Long userId);
 
-    List<BusinessCard> findByUserOrderByCreatedAtAsc(User user);
+    @Query("SELECT b.name AS name, b.emailKey AS contactKey FROM BusinessCard b " +
+            "WHERE b.user.id = :userId AND b.emailKey IS NOT NULL GROUP BY b.name, b.emailKey HAVING COUNT(b) > 1")
+    List<DuplicateKey> findDuplicateEmailKeys(@Param("userId") Long userId);
 
-    List<BusinessCard> findByUserOrderByNameAsc(User user);
+    // 화면 표시/비교용 조회 - 결과 엔티티는 읽기 전용 (스냅샷/변경 감지 생략)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<BusinessCard> findByIdIn(Collection<Long> ids);
 
-    long countByUser(User user);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<BusinessCard> findByUserIdAndMobileKeyIn(Long userId, Collection<String> mobileKeys);
 
-    // 이름 + 휴대폰
-    Optional<BusinessCard> findByUserAndNameAndMobilePhone(User user, String name, String mobilePhone);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<BusinessCard> findByUserIdAndEmailKeyIn(Long userId, Collection<String> emailKeys);
 
-    // 이름 + 이메일
-    Optional<BusinessCard> findByUserAndNameAndEmail(User user, String name, String email);
+    // 검색 인덱스 구성용 (필요한 컬럼만)
+    @Query("SELECT b.id AS id, b.name AS name, b.company AS company, b.position AS position, " +
+            "b.category AS category, b.createdAt AS createdAt FROM BusinessCard b WHERE b.user.id = :userId")
+    List<CardSearchRow> findSearchRowsByUserId(@Param("userId") Long userId);
 
-    // 휴대폰
-    Optional<BusinessCard> findByUserAndMobilePhone(User user, String mobilePhone);
+    // 자동완성용 이름/회사별 건수
+    @Query("SELECT b.name AS term, COUNT(b) AS frequency FROM BusinessCard b WHERE b.user.id = :userId GROUP BY b.name")
+    List<TermCount> countNamesByUserId(@Param("userId") Long userId);
 
-    // 이름 + 회사
-    Optional<BusinessCard> findByUserAndNameAndCompany(User user, String name, String company);
-
-    // 이전 명함 찾기
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.id < :id ORDER BY b.id DESC LIMIT 1")
-    Optional<BusinessCard> findPreviousCard(@Param("user") User user, @Param("id") Long id);
-
-    // 다음 명함 찾기
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.id > :id ORDER BY b.id ASC LIMIT 1")
-    Optional<BusinessCard> findNextCard(@Param("user") User user, @Param("id") Long id);
-
-    // 이름으로 검색 + 정렬
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.name ASC")
-    List<BusinessCard> searchByNameOrderByName(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByNameOrderByCreatedDesc(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByNameOrderByCreatedAsc(@Param("user") User user, @Param("keyword") String keyword);
-
-    // 회사로 검색 + 정렬
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.name ASC")
-    List<BusinessCard> searchByCompanyOrderByName(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByCompanyOrderByCreatedDesc(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByCompanyOrderByCreatedAsc(@Param("user") User user, @Param("keyword") String keyword);
-
-    // 직함으로 검색 + 정렬
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.name ASC")
-    List<BusinessCard> searchByPositionOrderByName(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByPositionOrderByCreatedDesc(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByPositionOrderByCreatedAsc(@Param("user") User user, @Param("keyword") String keyword);
-
-    // 주소로 검색 + 정렬
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.name ASC")
-    List<BusinessCard> searchByAddressOrderByName(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByAddressOrderByCreatedDesc(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByAddressOrderByCreatedAsc(@Param("user") User user, @Param("keyword") String keyword);
-
-    // 전체 필드 검색 + 정렬
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND " +
-            "(LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY b.name ASC")
-    List<BusinessCard> searchByKeywordOrderByName(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND " +
-            "(LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByKeywordOrderByCreatedDesc(@Param("user") User user, @Param("keyword") String keyword);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND " +
-            "(LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByKeywordOrderByCreatedAsc(@Param("user") User user, @Param("keyword") String keyword);
-
-    // 카테고리 + 검색 + 정렬
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category ORDER BY b.name ASC")
-    List<BusinessCard> findByUserAndCategoryOrderByName(@Param("user") User user, @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category ORDER BY b.createdAt DESC")
-    List<BusinessCard> findByUserAndCategoryOrderByCreatedDesc(@Param("user") User user, @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category ORDER BY b.createdAt ASC")
-    List<BusinessCard> findByUserAndCategoryOrderByCreatedAsc(@Param("user") User user, @Param("category") Category category);
-
-
-// 카테고리 + 검색 + 정렬
-    // 이름
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.name ASC")
-    List<BusinessCard> searchByNameAndCategoryOrderByName(@Param("user") User user,
-                                                          @Param("keyword") String keyword,
-                                                          @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByNameAndCategoryOrderByCreatedDesc(@Param("user") User user,
-                                                                 @Param("keyword") String keyword,
-                                                                 @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByNameAndCategoryOrderByCreatedAsc(@Param("user") User user,
-                                                                @Param("keyword") String keyword,
-                                                                @Param("category") Category category);
-
-    // 회사
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.name ASC")
-    List<BusinessCard> searchByCompanyAndCategoryOrderByName(@Param("user") User user,
-                                                             @Param("keyword") String keyword,
-                                                             @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByCompanyAndCategoryOrderByCreatedDesc(@Param("user") User user,
-                                                                    @Param("keyword") String keyword,
-                                                                    @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByCompanyAndCategoryOrderByCreatedAsc(@Param("user") User user,
-                                                                   @Param("keyword") String keyword,
-                                                                   @Param("category") Category category);
-
-    // 직함
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.name ASC")
-    List<BusinessCard> searchByPositionAndCategoryOrderByName(@Param("user") User user,
-                                                              @Param("keyword") String keyword,
-                                                              @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByPositionAndCategoryOrderByCreatedDesc(@Param("user") User user,
-                                                                     @Param("keyword") String keyword,
-                                                                     @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByPositionAndCategoryOrderByCreatedAsc(@Param("user") User user,
-                                                                    @Param("keyword") String keyword,
-                                                                    @Param("category") Category category);
-
-    // 주소
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.name ASC")
-    List<BusinessCard> searchByAddressAndCategoryOrderByName(@Param("user") User user,
-                                                             @Param("keyword") String keyword,
-                                                             @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByAddressAndCategoryOrderByCreatedDesc(@Param("user") User user,
-                                                                    @Param("keyword") String keyword,
-                                                                    @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByAddressAndCategoryOrderByCreatedAsc(@Param("user") User user,
-                                                                   @Param("keyword") String keyword,
-                                                                   @Param("category") Category category);
-
-    // 전체(all)
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND " +
-            "(LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY b.name ASC")
-    List<BusinessCard> searchByKeywordAndCategoryOrderByName(@Param("user") User user,
-                                                             @Param("keyword") String keyword,
-                                                             @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND " +
-            "(LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY b.createdAt DESC")
-    List<BusinessCard> searchByKeywordAndCategoryOrderByCreatedDesc(@Param("user") User user,
-                                                                    @Param("keyword") String keyword,
-                                                                    @Param("category") Category category);
-
-    @Query("SELECT b FROM BusinessCard b WHERE b.user = :user AND b.category = :category AND " +
-            "(LOWER(b.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.position) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(b.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY b.createdAt ASC")
-    List<BusinessCard> searchByKeywordAndCategoryOrderByCreatedAsc(@Param("user") User user,
-                                                                   @Param("keyword") String keyword,
-                                                                   @Param("category") Category category);
+    @Query("SELECT b.company AS term, COUNT(b) AS frequency FROM BusinessCard b " +
+            "WHERE b.user.id = :userId AND b.company IS NOT NULL GROUP BY b.company")
+    List<TermCount> countCompaniesByUserId(@Param("userId") Long userId);
 
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.demo.sms.card.repository;
+
+import com.demo.sms.card.entity.BusinessCard;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
+
+/**
+ * Specification 검색 결과를 인터페이스 프로젝션으로 조회 (프로젝션에 선언된 컬럼만 SELECT, 엔티티 관리 없음)
+ */
+public interface BusinessCardRowRepository {
+
+    <T> List<T> findRows(Specification<BusinessCard> spec, Class<T> type, Sort sort);
+
+    // Sort가 비어 있으면 Specification이 지정한 정렬(관련도순 등)을 그대로 사용
+    <T> Page<T> findRows(Specification<BusinessCard> spec, Class<T> type, Pageable pageable);
+
+    // 키셋 스크롤 - Sort의 마지막 키는 유일해야 함 (id)
+    <T> Window<T> scrollRows(Specification<BusinessCard> spec, Class<T> type, Sort sort, int limit,
+                             KeysetScrollPosition position);
+
+    // 주어진 id 순서대로 조회 (없는 id는 제외)
+    <T> List<T> findRowsByIds(List<Long> ids, Class<T> type);
+}
@@ -0,0 +1,217 @@
+package com.demo.sms.card.repository;
+
+import com.demo.sms.card.entity.BusinessCard;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.util.*;
+
+/**
+ * 프로젝션 속성과 정렬 키만 튜플로 조회한 뒤 Map 기반 프로젝션으로 감쌈
+ * (주소/전화/비고 같은 긴 컬럼을 쓰지 않는 화면에서 전송량과 영속성 컨텍스트 부담을 줄임)
+ */
+public class BusinessCardRowRepositoryImpl implements BusinessCardRowRepository {
+
+    private final EntityManager entityManager;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    public BusinessCardRowRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public <T> List<T> findRows(Specification<BusinessCard> spec, Class<T> type, Sort sort) {
+        return toRows(select(spec, type, sort, null, 0, 0), type);
+    }
+
+    @Override
+    public <T> Page<T> findRows(Specification<BusinessCard> spec, Class<T> type, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findRows(spec, type, pageable.getSort()));
+        }
+
+        List<T> content = toRows(select(spec, type, pageable.getSort(), null,
+                pageable.getOffset(), pageable.getPageSize()), type);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public <T> Window<T> scrollRows(Specification<BusinessCard> spec, Class<T> type, Sort sort, int limit,
+                                    KeysetScrollPosition position) {
+        // 역방향은 정렬을 뒤집어 조회한 뒤 다시 뒤집음, 한 건 더 읽어 다음 존재 여부 판단
+        Sort querySort = position.scrollsBackward() ? reverse(sort) : sort;
+        List<Map<String, Object>> rows = select(spec, type, querySort,
+                position.isInitial() ? null : position.getKeys(), 0, limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<Map<String, Object>> content = new ArrayList<>(hasNext ? rows.subList(0, limit) : rows);
+        if (position.scrollsBackward()) {
+            Collections.reverse(content);
+        }
+
+        return Window.from(toRows(content, type),
+                index -> ScrollPosition.of(keysOf(content.get(index), sort), position.getDirection()), hasNext);
+    }
+
+    @Override
+    public <T> List<T> findRowsByIds(List<Long> ids, Class<T> type) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Specification<BusinessCard> spec = (root, query, cb) -> root.get("id").in(ids);
+        Map<Object, Map<String, Object>> rowsById = new HashMap<>();
+        for (Map<String, Object> row : select(spec, type, Sort.by("id"), null, 0, 0)) {
+            rowsById.put(row.get("id"), row);
+        }
+
+        List<Map<String, Object>> ordered = new ArrayList<>(rowsById.size());
+        for (Long id : ids) {
+            Map<String, Object> row = rowsById.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return toRows(ordered, type);
+    }
+
+    private List<Map<String, Object>> select(Specification<BusinessCard> spec, Class<?> type, Sort sort,
+                                             Map<String, ?> after, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<BusinessCard> root = query.from(BusinessCard.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String property : selectedProperties(type, sort)) {
+            selections.add(root.get(property).alias(property));
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (after != null) {
+            predicates.add(keysetPredicate(root, cb, sort, after));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        if (sort.isSorted()) {
+            query.orderBy(orders(root, cb, sort));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (offset > 0) {
+            typedQuery.setFirstResult(Math.toIntExact(offset));
+        }
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new HashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                row.put(element.getAlias(), tuple.get(element));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private long count(Specification<BusinessCard> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<BusinessCard> root = query.from(BusinessCard.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // 프로젝션 속성 + 정렬/키셋에 필요한 속성 + id
+    private Set<String> selectedProperties(Class<?> type, Sort sort) {
+        Set<String> properties = new LinkedHashSet<>();
+        for (PropertyDescriptor descriptor : projectionFactory.getProjectionInformation(type).getInputProperties()) {
+            properties.add(descriptor.getName());
+        }
+        sort.forEach(order -> properties.add(order.getProperty()));
+        properties.add("id");
+        return properties;
+    }
+
+    // (k1, k2, ...) 이후 위치 - k1 > v1 OR (k1 = v1 AND k2 > v2) ... (내림차순 키는 <)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate keysetPredicate(Root<BusinessCard> root, CriteriaBuilder cb, Sort sort, Map<String, ?> keys) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalities = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            Expression<Comparable> path = root.get(order.getProperty());
+            Comparable value = (Comparable) keys.get(order.getProperty());
+
+            List<Predicate> alternative = new ArrayList<>(equalities);
+            alternative.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+            alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+
+            equalities.add(cb.equal(path, value));
+        }
+
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    private List<Order> orders(Root<BusinessCard> root, CriteriaBuilder cb, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())));
+        }
+        return orders;
+    }
+
+    private Sort reverse(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC));
+        }
+        return Sort.by(orders);
+    }
+
+    private Map<String, Object> keysOf(Map<String, Object> row, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(), row.get(order.getProperty())));
+        return keys;
+    }
+
+    private <T> List<T> toRows(List<Map<String, Object>> rows, Class<T> type) {
+        List<T> result = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            result.add(projectionFactory.createProjection(type, row));
+        }
+        return result;
+    }
+}
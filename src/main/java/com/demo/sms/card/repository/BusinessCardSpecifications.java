@@ -0,0 +1,53 @@
+package com.demo.sms.card.repository;
+
+import com.demo.sms.card.entity.BusinessCard;
+import com.demo.sms.card.entity.BusinessCard.Category;
+import com.demo.sms.card.entity.User;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class BusinessCardSpecifications {
+
+    private BusinessCardSpecifications() {
+    }
+
+    // 사용자
+    public static Specification<BusinessCard> ownedBy(User user) {
+        return (root, query, cb) -> cb.equal(root.get("user"), user);
+    }
+
+    // 카테고리
+    public static Specification<BusinessCard> inCategory(Category category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    // 검색 필드 + 키워드 (대소문자 구분 없는 LIKE)
+    public static Specification<BusinessCard> keywordMatches(String searchField, String keyword) {
+        String pattern = "%" + keyword.toLowerCase() + "%";
+
+        return (root, query, cb) -> switch (searchField) {
+            case "name", "company", "position", "address" -> cb.like(cb.lower(root.get(searchField)), pattern);
+            default -> cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern),
+                    cb.like(cb.lower(root.get("company")), pattern),
+                    cb.like(cb.lower(root.get("position")), pattern),
+                    cb.like(cb.lower(root.get("address")), pattern));
+        };
+    }
+
+    // 전문 검색 (MySQL FULLTEXT ngram) - 관련도순이면 점수 내림차순 정렬
+    public static Specification<BusinessCard> fullTextMatches(String booleanQuery, boolean orderByRelevance) {
+        return (root, query, cb) -> {
+            Expression<Double> score = cb.function("card_fulltext", Double.class,
+                    root.get("name"), root.get("company"), root.get("position"), root.get("address"),
+                    cb.literal(booleanQuery));
+
+            // count 쿼리에는 정렬을 붙이지 않음
+            if (orderByRelevance && query != null && !Long.class.equals(query.getResultType())) {
+                query.orderBy(cb.desc(score), cb.desc(root.get("id")));
+            }
+
+            return cb.greaterThan(score, 0.0);
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.demo.sms.card.repository;
+
+import com.demo.sms.card.dto.SummaryCounts;
+import com.demo.sms.card.entity.CardSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface CardSummaryRepository extends JpaRepository<CardSummary, Long> {
+
+    // 증감 반영 - added 카테고리 +1, removed 카테고리 -1 (집계 행이 없으면 0 반환)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE card_summary SET total = total + :totalDelta, " +
+            "company_count = company_count + (CASE WHEN :added = 'COMPANY' THEN 1 ELSE 0 END) - (CASE WHEN :removed = 'COMPANY' THEN 1 ELSE 0 END), " +
+            "school_count = school_count + (CASE WHEN :added = 'SCHOOL' THEN 1 ELSE 0 END) - (CASE WHEN :removed = 'SCHOOL' THEN 1 ELSE 0 END), " +
+            "association_count = association_count + (CASE WHEN :added = 'ASSOCIATION' THEN 1 ELSE 0 END) - (CASE WHEN :removed = 'ASSOCIATION' THEN 1 ELSE 0 END), " +
+            "government_count = government_count + (CASE WHEN :added = 'GOVERNMENT' THEN 1 ELSE 0 END) - (CASE WHEN :removed = 'GOVERNMENT' THEN 1 ELSE 0 END), " +
+            "updated_at = NOW() WHERE user_id = :userId", nativeQuery = true)
+    int applyChange(@Param("userId") Long userId, @Param("totalDelta") int totalDelta,
+                    @Param("added") String added, @Param("removed") String removed);
+
+    // business_card에서 다시 집계 (대량 변경 후, 집계 행이 없을 때)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO card_summary (user_id, total, company_count, school_count, association_count, government_count, updated_at) " +
+            "SELECT :userId, COUNT(*), " +
+            "COALESCE(SUM(category = 'COMPANY'), 0), COALESCE(SUM(category = 'SCHOOL'), 0), " +
+            "COALESCE(SUM(category = 'ASSOCIATION'), 0), COALESCE(SUM(category = 'GOVERNMENT'), 0), NOW() " +
+            "FROM business_card WHERE user_id = :userId " +
+            "ON DUPLICATE KEY UPDATE total = VALUES(total), company_count = VALUES(company_count), " +
+            "school_count = VALUES(school_count), association_count = VALUES(association_count), " +
+            "government_count = VALUES(government_count), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int refresh(@Param("userId") Long userId);
+
+    // 집계 행이 없을 때 business_card에서 바로 집계 (저장하지 않으므로 읽기 전용 트랜잭션에서 사용 가능)
+    @Query(value = "SELECT COUNT(*) AS total, " +
+            "COALESCE(SUM(category = 'COMPANY'), 0) AS companyCount, COALESCE(SUM(category = 'SCHOOL'), 0) AS schoolCount, " +
+            "COALESCE(SUM(category = 'ASSOCIATION'), 0) AS associationCount, " +
+            "COALESCE(SUM(category = 'GOVERNMENT'), 0) AS governmentCount " +
+            "FROM business_card WHERE user_id = :userId", nativeQuery = true)
+    SummaryCounts summarize(@Param("userId") Long userId);
+
+    // 실제 명함 수와 어긋난 집계 행, 명함은 있는데 집계 행이 없는 사용자
+    @Query(value = "SELECT s.user_id FROM card_summary s LEFT JOIN (" +
+            "SELECT user_id, COUNT(*) AS total, SUM(category = 'COMPANY') AS company_count, " +
+            "SUM(category = 'SCHOOL') AS school_count, SUM(category = 'ASSOCIATION') AS association_count, " +
+            "SUM(category = 'GOVERNMENT') AS government_count FROM business_card GROUP BY user_id) a " +
+            "ON a.user_id = s.user_id " +
+            "WHERE s.total <> COALESCE(a.total, 0) OR s.company_count <> COALESCE(a.company_count, 0) " +
+            "OR s.school_count <> COALESCE(a.school_count, 0) OR s.association_count <> COALESCE(a.association_count, 0) " +
+            "OR s.government_count <> COALESCE(a.government_count, 0) " +
+            "UNION SELECT DISTINCT b.user_id FROM business_card b LEFT JOIN card_summary s ON s.user_id = b.user_id " +
+            "WHERE s.user_id IS NULL", nativeQuery = true)
+    List<Long> findDriftedUserIds();
+}
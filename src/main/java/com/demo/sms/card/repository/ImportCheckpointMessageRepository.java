@@ -0,0 +1,20 @@
+package com.demo.sms.card.repository;
+
+import com.demo.sms.card.entity.ImportCheckpointMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface ImportCheckpointMessageRepository extends JpaRepository<ImportCheckpointMessage, Long> {
+
+    // 저장한 순서대로 (결과 화면에 행 순서대로 표시)
+    List<ImportCheckpointMessage> findByCheckpointIdOrderById(Long checkpointId);
+
+    @Modifying
+    @Query("DELETE FROM ImportCheckpointMessage m WHERE m.checkpointId = :checkpointId")
+    int deleteByCheckpointId(@Param("checkpointId") Long checkpointId);
+}
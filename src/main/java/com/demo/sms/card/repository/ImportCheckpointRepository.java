@@ -0,0 +1,11 @@
+package com.demo.sms.card.repository;
+
+import com.demo.sms.card.entity.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, Long> {
+    Optional<ImportCheckpoint> findByUserIdAndFileHash(Long userId, String fileHash);
+}
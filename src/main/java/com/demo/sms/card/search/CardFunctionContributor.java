@@ -0,0 +1,21 @@
+package com.demo.sms.card.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/Criteria 에서 MySQL MATCH ... AGAINST 를 쓰기 위한 함수 등록
+ * card_fulltext(name, company, position, address, :query) -> 관련도 점수
+ */
+public class CardFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "card_fulltext",
+                "match(?1, ?2, ?3, ?4) against(?5 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
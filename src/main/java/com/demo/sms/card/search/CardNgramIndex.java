@@ -0,0 +1,338 @@
+package com.demo.sms.card.search;
+
+import com.demo.sms.card.datasource.PrimaryReader;
+import com.demo.sms.card.dto.CardSearchRow;
+import com.demo.sms.card.entity.BusinessCard;
+import com.demo.sms.card.entity.BusinessCard.Category;
+import com.demo.sms.card.event.CardChangedEvent;
+import com.demo.sms.card.repository.BusinessCardRepository;
+import com.demo.sms.card.util.HangulUtil;
+import com.demo.sms.card.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 사용자별 n-gram / 초성 역색인 (이름, 회사, 직함)
+ * - 첫 검색 시 필요한 컬럼만 읽어 구성하고, 이후에는 커밋된 변경을 증분 반영
+ * - 포스팅 리스트는 int 배열로 유지해 박싱 없이 교집합 계산
+ */
+@Component
+public class CardNgramIndex {
+
+    private final BusinessCardRepository businessCardRepository;
+    private final PrimaryReader primaryReader;
+    private final LruCache<Long, UserIndex> indexes;
+
+    public CardNgramIndex(BusinessCardRepository businessCardRepository, PrimaryReader primaryReader,
+                          @Value("${card.search.ngram.max-users:1000}") int maxUsers) {
+        this.businessCardRepository = businessCardRepository;
+        this.primaryReader = primaryReader;
+        this.indexes = new LruCache<>(maxUsers);
+    }
+
+    /**
+     * 검색어(초성, 부분 음절, 혼합 가능)와 일치하는 명함 id를 정렬 순서대로 반환
+     */
+    public List<Long> search(Long userId, String query, Category category, String sortBy) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return indexFor(userId).search(normalized, category, sortBy);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCardChanged(CardChangedEvent event) {
+        Long userId = event.getUserId();
+
+        // 인덱스가 없으면 구성 중일 수 있으므로 무효화해 구성 결과가 캐시되지 않게 함
+        UserIndex index = indexes.get(userId);
+        if (index == null) {
+            indexes.invalidate(userId);
+            return;
+        }
+
+        switch (event.getType()) {
+            case SAVED -> {
+                BusinessCard card = event.getCard();
+                index.add(card.getId(), card.getName(), card.getCompany(), card.getPosition(),
+                        card.getCategory(), card.getCreatedAt());
+            }
+            case DELETED -> index.remove(event.getCardId());
+            case BULK -> indexes.invalidate(userId);
+        }
+
+        if (index.needsCompaction()) {
+            indexes.invalidate(userId);
+        }
+    }
+
+    private UserIndex indexFor(Long userId) {
+        UserIndex index = indexes.get(userId);
+        if (index != null) {
+            return index;
+        }
+
+        long generation = indexes.generation(userId);
+
+        // 무효화 직후에는 방금 커밋된 변경이 복제본에 아직 없을 수 있으므로 주 DB에서 읽음
+        List<CardSearchRow> rows = indexes.isInvalidated(userId)
+                ? primaryReader.read(() -> businessCardRepository.findSearchRowsByUserId(userId))
+                : businessCardRepository.findSearchRowsByUserId(userId);
+
+        UserIndex built = new UserIndex();
+        for (CardSearchRow row : rows) {
+            built.add(row.getId(), row.getName(), row.getCompany(), row.getPosition(),
+                    row.getCategory(), row.getCreatedAt());
+        }
+
+        // 구성 도중 변경이 커밋됐으면 이번 검색에만 사용
+        indexes.putIfUnchanged(userId, built, generation);
+        return built;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한 사용자의 역색인 - 문서 번호(doc)는 추가 순서대로 증가하므로 포스팅 리스트는 항상 정렬 상태
+     */
+    private static final class UserIndex {
+
+        private static final char FIELD_SEPARATOR = '\u0000';
+        private static final int INITIAL_CAPACITY = 64;
+        private static final int MIN_COMPACTION_DELETES = 1000;
+
+        private long[] cardIds = new long[INITIAL_CAPACITY];
+        private String[] texts = new String[INITIAL_CAPACITY];
+        private String[] names = new String[INITIAL_CAPACITY];
+        private long[] createdAt = new long[INITIAL_CAPACITY];
+        private byte[] categories = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        private final BitSet deleted = new BitSet();
+        private int deletedCount;
+
+        private final Map<Long, Integer> docByCardId = new HashMap<>();
+        private final Map<String, IntList> textGrams = new HashMap<>();
+        private final Map<String, IntList> chosungGrams = new HashMap<>();
+
+        synchronized void add(Long cardId, String name, String company, String position,
+                              Category category, LocalDateTime created) {
+            remove(cardId);
+            ensureCapacity();
+
+            int doc = size++;
+            String text = normalize(name) + FIELD_SEPARATOR + normalize(company) + FIELD_SEPARATOR + normalize(position);
+
+            cardIds[doc] = cardId;
+            texts[doc] = text;
+            names[doc] = name != null ? name : "";
+            createdAt[doc] = created != null ? created.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + created.getNano() / 1_000 : 0L;
+            categories[doc] = (byte) (category != null ? category.ordinal() : -1);
+
+            indexGrams(textGrams, text, doc);
+            indexGrams(chosungGrams, HangulUtil.toChosung(text), doc);
+            docByCardId.put(cardId, doc);
+        }
+
+        synchronized void remove(Long cardId) {
+            Integer doc = docByCardId.remove(cardId);
+            if (doc != null) {
+                deleted.set(doc);
+                deletedCount++;
+            }
+        }
+
+        synchronized boolean needsCompaction() {
+            return deletedCount >= MIN_COMPACTION_DELETES && deletedCount * 2 > size;
+        }
+
+        synchronized List<Long> search(String query, Category category, String sortBy) {
+            boolean hasChosung = false;
+            for (int i = 0; i < query.length(); i++) {
+                if (HangulUtil.isChosung(query.charAt(i))) {
+                    hasChosung = true;
+                    break;
+                }
+            }
+
+            // 초성이 섞인 검색어는 초성 색인으로 후보를 찾고 글자 단위로 검증
+            IntList candidates = hasChosung
+                    ? intersect(chosungGrams, HangulUtil.toChosung(query))
+                    : intersect(textGrams, query);
+
+            List<Integer> matched = new ArrayList<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                int doc = candidates.get(i);
+                if (deleted.get(doc)) continue;
+                if (category != null && categories[doc] != category.ordinal()) continue;
+
+                boolean hit = hasChosung ? containsMatching(texts[doc], query) : texts[doc].contains(query);
+                if (hit) {
+                    matched.add(doc);
+                }
+            }
+
+            matched.sort(comparator(sortBy));
+
+            List<Long> result = new ArrayList<>(matched.size());
+            for (int doc : matched) {
+                result.add(cardIds[doc]);
+            }
+            return result;
+        }
+
+        private Comparator<Integer> comparator(String sortBy) {
+            return switch (sortBy) {
+                case "name" -> (a, b) -> {
+                    int byName = names[a].compareTo(names[b]);
+                    return byName != 0 ? byName : Long.compare(cardIds[a], cardIds[b]);
+                };
+                case "oldest" -> (a, b) -> {
+                    int byCreated = Long.compare(createdAt[a], createdAt[b]);
+                    return byCreated != 0 ? byCreated : Long.compare(cardIds[a], cardIds[b]);
+                };
+                default -> (a, b) -> {
+                    int byCreated = Long.compare(createdAt[b], createdAt[a]);
+                    return byCreated != 0 ? byCreated : Long.compare(cardIds[b], cardIds[a]);
+                };
+            };
+        }
+
+        private IntList intersect(Map<String, IntList> grams, String key) {
+            List<IntList> postings = new ArrayList<>();
+            for (String gram : gramsOf(key)) {
+                IntList posting = grams.get(gram);
+                if (posting == null) {
+                    return IntList.EMPTY;
+                }
+                postings.add(posting);
+            }
+
+            postings.sort(Comparator.comparingInt(IntList::size));
+
+            IntList result = postings.get(0);
+            for (int i = 1; i < postings.size() && result.size() > 0; i++) {
+                result = result.intersect(postings.get(i));
+            }
+            return result;
+        }
+
+        private static List<String> gramsOf(String key) {
+            if (key.length() == 1) {
+                return List.of(key);
+            }
+
+            List<String> grams = new ArrayList<>(key.length() - 1);
+            for (int i = 0; i + 1 < key.length(); i++) {
+                grams.add(key.substring(i, i + 2));
+            }
+            return grams;
+        }
+
+        private static void indexGrams(Map<String, IntList> grams, String text, int doc) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == FIELD_SEPARATOR) continue;
+
+                grams.computeIfAbsent(String.valueOf(c), k -> new IntList()).add(doc);
+                if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                    grams.computeIfAbsent(text.substring(i, i + 2), k -> new IntList()).add(doc);
+                }
+            }
+        }
+
+        private static boolean containsMatching(String text, String query) {
+            for (int start = 0; start + query.length() <= text.length(); start++) {
+                int k = 0;
+                while (k < query.length() && HangulUtil.matches(query.charAt(k), text.charAt(start + k))) {
+                    k++;
+                }
+                if (k == query.length()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void ensureCapacity() {
+            if (size < cardIds.length) {
+                return;
+            }
+
+            int capacity = cardIds.length * 2;
+            cardIds = Arrays.copyOf(cardIds, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+            names = Arrays.copyOf(names, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+        }
+    }
+
+    /**
+     * 정렬된 int 포스팅 리스트
+     */
+    private static final class IntList {
+
+        static final IntList EMPTY = new IntList();
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            // 같은 문서에 같은 gram이 여러 번 나오면 한 번만 기록
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        IntList intersect(IntList other) {
+            IntList result = new IntList();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (values[i] < other.values[j]) {
+                    i++;
+                } else if (values[i] > other.values[j]) {
+                    j++;
+                } else {
+                    result.add(values[i]);
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+}
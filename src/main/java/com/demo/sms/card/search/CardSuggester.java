@@ -0,0 +1,152 @@
+package com.demo.sms.card.search;
+
+import com.demo.sms.card.datasource.PrimaryReader;
+import com.demo.sms.card.dto.Suggestion;
+import com.demo.sms.card.dto.TermCount;
+import com.demo.sms.card.event.CardChangedEvent;
+import com.demo.sms.card.repository.BusinessCardRepository;
+import com.demo.sms.card.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 이름/회사 자동완성 - 사용자별 정렬 배열을 LRU 캐시에 두고 접두어 구간을 이진 탐색
+ */
+@Component
+public class CardSuggester {
+
+    private final BusinessCardRepository businessCardRepository;
+    private final PrimaryReader primaryReader;
+    private final LruCache<Long, PrefixTable> tables;
+
+    public CardSuggester(BusinessCardRepository businessCardRepository, PrimaryReader primaryReader,
+                         @Value("${card.suggest.max-users:500}") int maxUsers) {
+        this.businessCardRepository = businessCardRepository;
+        this.primaryReader = primaryReader;
+        this.tables = new LruCache<>(maxUsers);
+    }
+
+    /**
+     * 접두어로 시작하는 이름/회사 중 명함 수가 많은 순으로 최대 limit개
+     */
+    @Transactional(readOnly = true)
+    public List<Suggestion> suggest(Long userId, String prefix, int limit) {
+        String key = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        PrefixTable table = tables.get(userId);
+        if (table == null) {
+            long generation = tables.generation(userId);
+
+            // 무효화 직후에는 방금 커밋된 변경이 복제본에 아직 없을 수 있으므로 주 DB에서 읽음
+            table = tables.isInvalidated(userId)
+                    ? primaryReader.read(() -> buildTable(userId))
+                    : buildTable(userId);
+
+            // 구성 도중 변경이 커밋됐으면 이번 응답에만 사용
+            tables.putIfUnchanged(userId, table, generation);
+        }
+
+        return table.lookup(key, limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCardChanged(CardChangedEvent event) {
+        tables.invalidate(event.getUserId());
+    }
+
+    private PrefixTable buildTable(Long userId) {
+        return PrefixTable.build(businessCardRepository.countNamesByUserId(userId),
+                businessCardRepository.countCompaniesByUserId(userId));
+    }
+
+    /**
+     * 소문자 키 기준으로 정렬된 (키, 표시값, 종류, 건수) 배열
+     */
+    private static final class PrefixTable {
+
+        private final String[] keys;
+        private final String[] texts;
+        private final String[] types;
+        private final long[] counts;
+
+        private PrefixTable(int size) {
+            keys = new String[size];
+            texts = new String[size];
+            types = new String[size];
+            counts = new long[size];
+        }
+
+        static PrefixTable build(List<TermCount> names, List<TermCount> companies) {
+            List<Entry> entries = new ArrayList<>(names.size() + companies.size());
+            addEntries(entries, names, "name");
+            addEntries(entries, companies, "company");
+            entries.sort(Comparator.comparing(Entry::key));
+
+            PrefixTable table = new PrefixTable(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                table.keys[i] = entry.key();
+                table.texts[i] = entry.text();
+                table.types[i] = entry.type();
+                table.counts[i] = entry.count();
+            }
+            return table;
+        }
+
+        private static void addEntries(List<Entry> entries, List<TermCount> terms, String type) {
+            for (TermCount term : terms) {
+                String text = term.getTerm() == null ? "" : term.getTerm().trim();
+                if (!text.isEmpty()) {
+                    entries.add(new Entry(text.toLowerCase(Locale.ROOT), text, type, term.getFrequency()));
+                }
+            }
+        }
+
+        List<Suggestion> lookup(String prefix, int limit) {
+            int start = lowerBound(prefix);
+
+            // 접두어 구간에서 건수 상위 limit개만 유지 (최소 힙)
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1,
+                    Comparator.<Integer>comparingLong(i -> counts[i]).thenComparing(i -> keys[i], Comparator.reverseOrder()));
+            for (int i = start; i < keys.length && keys[i].startsWith(prefix); i++) {
+                top.offer(i);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Suggestion> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int i = top.poll();
+                result.add(new Suggestion(texts[i], types[i], counts[i]));
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private record Entry(String key, String text, String type, long count) {
+        }
+    }
+}
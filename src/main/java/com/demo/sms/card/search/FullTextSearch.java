@@ -0,0 +1,50 @@
+package com.demo.sms.card.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 사용 여부와 BOOLEAN MODE 검색어 변환
+ */
+@Component
+public class FullTextSearch {
+
+    // ngram_token_size 기본값 - 이보다 짧은 검색어는 ngram 인덱스로 찾을 수 없음
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private final boolean enabled;
+
+    public FullTextSearch(@Value("${card.search.fulltext.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 전체 필드 검색어를 BOOLEAN MODE 질의로 변환 (각 단어를 모두 포함, 짧은 단어가 있으면 LIKE 검색 사용)
+     */
+    public Optional<String> toBooleanQuery(String searchField, String keyword) {
+        if (!enabled || !"all".equals(searchField) || keyword == null || keyword.trim().isEmpty()) {
+            return Optional.empty();
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String term : keyword.trim().split("\\s+")) {
+            String cleaned = term.replace("\"", "");
+            if (cleaned.length() < MIN_TERM_LENGTH) {
+                return Optional.empty();
+            }
+
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append("+\"").append(cleaned).append('"');
+        }
+
+        return Optional.of(query.toString());
+    }
+}
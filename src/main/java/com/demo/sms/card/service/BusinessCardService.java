@@ -1,34 +1,92 @@
 package com.demo.sms.card.service;
 
 import com.demo.sms.card.dto.BusinessCardDto;
+import com.demo.sms.card.dto.CardListRow;
+import com.demo.sms.card.dto.CardStatistics;
+import com.demo.sms.card.dto.CardWindow;
+import com.demo.sms.card.dto.DuplicateKey;
+import com.demo.sms.card.dto.EmailRow;
+import com.demo.sms.card.dto.ExportRow;
+import com.demo.sms.card.dto.RecentCard;
 import com.demo.sms.card.dto.UploadResult;
 import com.demo.sms.card.entity.BusinessCard;
 import com.demo.sms.card.entity.BusinessCard.Category;
+import com.demo.sms.card.entity.ImportCheckpoint;
+import com.demo.sms.card.entity.ImportCheckpointMessage;
 import com.demo.sms.card.entity.User;
+import com.demo.sms.card.event.CardChangedEvent;
+import com.demo.sms.card.repository.BusinessCardBulkRepository;
 import com.demo.sms.card.repository.BusinessCardRepository;
+import com.demo.sms.card.repository.BusinessCardSpecifications;
+import com.demo.sms.card.repository.ImportCheckpointMessageRepository;
+import com.demo.sms.card.repository.ImportCheckpointRepository;
+import com.demo.sms.card.search.CardNgramIndex;
+import com.demo.sms.card.search.FullTextSearch;
+import com.demo.sms.card.util.CursorUtil;
 import com.demo.sms.card.util.ExcelUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 명함 조회/등록/수정/삭제, 검색, 가져오기/내보내기
+ * 기본은 읽기 전용 트랜잭션 (flush 생략, 조회한 엔티티는 스냅샷/변경 감지 없음) - 쓰기 메서드만 따로 지정
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class BusinessCardService {
 
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int DUPLICATE_KEY_CHUNK_SIZE = 1000;
+
     private final BusinessCardRepository businessCardRepository;
+    private final BusinessCardBulkRepository businessCardBulkRepository;
     private final ExcelUtil excelUtil;
-
+    private final CursorUtil cursorUtil;
+    private final FullTextSearch fullTextSearch;
+    private final CardNgramIndex cardNgramIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final ImportCheckpointMessageRepository importCheckpointMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CardRowNormalizer cardRowNormalizer;
+    private final ImportPipelineExecutors importPipelineExecutors;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final CardSummaryService cardSummaryService;
+    private final RecentCardCache recentCardCache;
+
+    @Transactional
     public BusinessCard saveCard(BusinessCardDto dto, User user) {
         BusinessCard card = convertToEntity(dto, user);
-        return businessCardRepository.save(card);
+        BusinessCard saved = businessCardRepository.save(card);
+        cardSummaryService.cardAdded(user.getId(), saved.getCategory());
+        eventPublisher.publishEvent(CardChangedEvent.saved(user.getId(), saved));
+        return saved;
     }
 
     public BusinessCard getCard(Long id, User user) {
@@ -42,16 +100,55 @@ public class BusinessCardService {
         return card;
     }
 
-    public Optional<BusinessCard> getPreviousCard(Long currentId, User user) {
-        return businessCardRepository.findPreviousCard(user, currentId);
+    /**
+     * 이전/다음 명함 - 현재 검색 조건과 정렬 순서를 따라 키셋으로 한 건만 조회
+     * (초성/부분 검색은 n-gram 인덱스가 정렬해 돌려준 id 목록에서 앞뒤 id를 찾음)
+     */
+    public Optional<BusinessCard> getPreviousCard(BusinessCard current, User user, Category category,
+                                                  String keyword, String searchField, String sortBy) {
+        return findAdjacentCard(current, user, category, keyword, searchField, sortBy, true);
     }
 
-    public Optional<BusinessCard> getNextCard(Long currentId, User user) {
-        return businessCardRepository.findNextCard(user, currentId);
+    public Optional<BusinessCard> getNextCard(BusinessCard current, User user, Category category,
+                                              String keyword, String searchField, String sortBy) {
+        return findAdjacentCard(current, user, category, keyword, searchField, sortBy, false);
+    }
+
+    private Optional<BusinessCard> findAdjacentCard(BusinessCard current, User user, Category category,
+                                                    String keyword, String searchField, String sortBy,
+                                                    boolean backward) {
+        String sort = normalizeSortBy(sortBy);
+
+        if (isQuickSearch(searchField, keyword)) {
+            List<Long> ids = cardNgramIndex.search(user.getId(), keyword, category, sort);
+            int at = ids.indexOf(current.getId());
+            int adjacent = backward ? at - 1 : at + 1;
+            if (at < 0 || adjacent < 0 || adjacent >= ids.size()) {
+                return Optional.empty();
+            }
+            return businessCardRepository.findById(ids.get(adjacent));
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if ("name".equals(sort)) {
+            keys.put("name", current.getName());
+        } else {
+            keys.put("createdAt", current.getCreatedAt());
+        }
+        keys.put("id", current.getId());
+
+        KeysetScrollPosition position = backward ? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+        Window<BusinessCard> window = businessCardRepository.findBy(
+                searchSpecification(user, category, keyword, searchField, false),
+                query -> query.sortBy(resolveSort(sort)).limit(1).scroll(position));
+
+        return window.stream().findFirst();
     }
 
+    @Transactional
     public BusinessCard updateCard(Long id, BusinessCardDto dto, User user) {
         BusinessCard card = getCard(id, user);
+        Category previousCategory = card.getCategory();
 
         card.setName(dto.getName());
         card.setCompany(dto.getCompany());
@@ -66,140 +163,192 @@ public class BusinessCardService {
         card.setCategory(dto.getCategory());
         card.setNotes(dto.getNotes());
 
-        return businessCardRepository.save(card);
+        BusinessCard saved = businessCardRepository.save(card);
+        cardSummaryService.categoryChanged(user.getId(), previousCategory, saved.getCategory());
+        eventPublisher.publishEvent(CardChangedEvent.saved(user.getId(), saved));
+        return saved;
     }
 
+    @Transactional
     public void deleteCard(Long id, User user) {
         BusinessCard card = getCard(id, user);
         businessCardRepository.delete(card);
+        cardSummaryService.cardRemoved(user.getId(), card.getCategory());
+        eventPublisher.publishEvent(CardChangedEvent.deleted(user.getId(), id));
     }
 
     /**
-     * 엑셀 업로드
+     * 엑셀 가져오기 (가져오기 작업 스레드에서 호출, 진행 상황은 result에 바로 반영)
+     * 전체를 한 트랜잭션으로 묶지 않고 청크마다 커밋하며, 커밋한 행까지 체크포인트에 기록
+     * 같은 파일을 같은 옵션으로 다시 올리면 체크포인트 다음 행부터 이어서 처리 (옵션이 다르면 IllegalStateException)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadResult importExcel(Path file, String fileName, Category category, User user, String duplicateAction,
+                                    UploadResult result) throws IOException {
+        String fileHash = fileHash(file);
+        ImportCheckpoint checkpoint = importCheckpointRepository
+                .findByUserIdAndFileHash(user.getId(), fileHash)
+                .orElseGet(() -> ImportCheckpoint.builder()
+                        .userId(user.getId())
+                        .fileHash(fileHash)
+                        .fileName(fileName)
+                        .category(category)
+                        .duplicateAction(duplicateAction)
+                        .build());
+
+        // 앞부분을 다른 분류/중복 처리로 가져온 파일은 이어서 가져오지 않음
+        if (checkpoint.getCategory() != category || !duplicateAction.equals(checkpoint.getDuplicateAction())) {
+            throw new IllegalStateException(String.format(
+                    "이전에 %d행까지 가져온 파일입니다. 이어서 가져오려면 같은 옵션(분류: %s, 중복 처리: %s)으로 업로드해주세요.",
+                    checkpoint.getLastRow(),
+                    checkpoint.getCategory() != null ? checkpoint.getCategory().getDisplayName() : "-",
+                    "overwrite".equals(checkpoint.getDuplicateAction()) ? "덮어쓰기" : "건너뛰기"));
+        }
 
-    private static final Pattern EMAIL_PATTERN =
-            Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z.]{2,}");
-
-
-    public UploadResult uploadExcel(MultipartFile file, Category category, User user, String duplicateAction) throws IOException {
-        UploadResult result = UploadResult.builder().build();
-
-        // ExcelUtil을 사용하여 파일 파싱
-        List<BusinessCardDto> dtoList = excelUtil.parseExcelFile(file);
-        result.setTotalRows(dtoList.size());
-
-        for (int i = 0; i < dtoList.size(); i++) {
-            BusinessCardDto dto = dtoList.get(i);
-            int rowNumber = i + 2;
-
-            dto.setCategory(category);
-
-            // 이름 필수 체크
-            if (dto.getName() == null || dto.getName().trim().isEmpty()) {
-                result.getErrors().add(String.format("행 %d: 이름이 누락되었습니다", rowNumber));
-                continue;
-            }
-
-            // 데이터 정규화
-            String name = dto.getName().trim();
-            String company = (dto.getCompany() != null && !dto.getCompany().trim().isEmpty())
-                    ? dto.getCompany().trim() : null;
-            String mobilePhone = (dto.getMobilePhone() != null && !dto.getMobilePhone().trim().isEmpty())
-                    ? dto.getMobilePhone().trim() : null;
-            String email = (dto.getEmail() != null && !dto.getEmail().trim().isEmpty())
-                    ? dto.getEmail().trim() : null;
-            String officePhone = (dto.getOfficePhone() != null && !dto.getOfficePhone().trim().isEmpty())
-                    ? dto.getOfficePhone().trim() : null;
-
-            //이메일 정규식으로 추출
-            if (email != null) {
-                Pattern EMAIL_PATTERN = Pattern.compile("[\\w._%+-]+@[\\w.-]+\\.[A-Za-z]{2,6}");
-                Matcher matcher = EMAIL_PATTERN.matcher(email);
-                String lastEmail = null;
-                while (matcher.find()) {
-                    lastEmail = matcher.group();
-                }
-                email = lastEmail != null ? lastEmail.trim().toLowerCase() : null;
-            }
-            dto.setEmail(email);
-
-            // 중복 체크
-            Optional<BusinessCard> existing = findExistingCard(user, name, company, mobilePhone, email, officePhone);
-
-            if (existing.isPresent()) {
-                if ("overwrite".equals(duplicateAction)) {
-                    // 덮어쓰기
-                    BusinessCard existingCard = existing.get();
-
-                    // 기존 레코드 삭제
-                    businessCardRepository.delete(existingCard);
-                    businessCardRepository.flush();
-
-                    // 새로운 레코드 생성
-                    BusinessCard newCard = convertToEntity(dto, user);
-                    businessCardRepository.save(newCard);
-
-                    result.setUpdateCount(result.getUpdateCount() + 1);
+        // 이전에 커밋한 건수와 오류/중복 메시지부터 이어서 집계
+        int resumeAfterRow = checkpoint.getLastRow();
+        result.setResumedFromRow(resumeAfterRow);
+        result.setTotalRows(checkpoint.getTotalRows());
+        result.setSuccessCount(checkpoint.getSuccessCount());
+        result.setUpdateCount(checkpoint.getUpdateCount());
+        result.setSkipCount(checkpoint.getSkipCount());
+        if (checkpoint.getId() != null) {
+            for (ImportCheckpointMessage message :
+                    importCheckpointMessageRepository.findByCheckpointIdOrderById(checkpoint.getId())) {
+                if (message.getType() == ImportCheckpointMessage.Type.ERROR) {
+                    result.getErrors().add(message.getMessage());
                 } else {
-                    // 건너뛰기
-                    String duplicateInfo = formatDuplicateInfo(name, company, mobilePhone, email, officePhone);
-                    result.getDuplicates().add(duplicateInfo);
-                    result.setSkipCount(result.getSkipCount() + 1);
+                    result.getDuplicates().add(message.getMessage());
                 }
-            } else {
-                // 새로운 데이터 저장
-                BusinessCard newCard = convertToEntity(dto, user);
-                businessCardRepository.save(newCard);
-                result.setSuccessCount(result.getSuccessCount() + 1);
             }
         }
 
+        // 중복 판정 키를 한 번에 적재 (행마다 조회하지 않음, 이미 커밋한 행도 포함)
+        DuplicateKeyIndex duplicateKeys = new DuplicateKeyIndex(
+                businessCardRepository.findKeyRowsByUserId(user.getId()));
+        CardImportBatch batch = new CardImportBatch(businessCardBulkRepository, duplicateKeys);
+        int[] lastRow = {resumeAfterRow};
+
+        // 파싱 -> 병렬 정규화 -> 저장 (저장은 이 스레드에서 파일 순서대로)
+        new ImportPipeline(importPipelineExecutors).run(
+                handler -> excelUtil.readExcelFile(file, (dto, rowNumber) -> {
+                    if (rowNumber > resumeAfterRow) {
+                        handler.accept(dto, rowNumber);
+                    }
+                }),
+                (dto, rowNumber) -> cardRowNormalizer.normalize(dto, rowNumber, category),
+                row -> {
+                    result.setTotalRows(result.getTotalRows() + 1);
+                    importRow(row, user, duplicateAction, duplicateKeys, batch, result);
+                    lastRow[0] = row.rowNumber();
+
+                    if (batch.isFull()) {
+                        commitChunk(batch, checkpoint, lastRow[0], user, result);
+                    }
+                });
+        commitChunk(batch, checkpoint, lastRow[0], user, result);
+
+        // 끝까지 가져온 파일은 기록 삭제
+        if (checkpoint.getId() != null) {
+            transactionTemplate.executeWithoutResult(status -> {
+                importCheckpointMessageRepository.deleteByCheckpointId(checkpoint.getId());
+                importCheckpointRepository.deleteById(checkpoint.getId());
+            });
+        }
         return result;
     }
 
     /**
-     * 기존 명함 찾기
+     * 청크 저장과 체크포인트 갱신을 한 트랜잭션으로 커밋
+     * (JDBC로 저장하므로 영속성 컨텍스트에 명함이 쌓이지 않음)
      */
-    private Optional<BusinessCard> findExistingCard(User user, String name, String company,
-                                                    String mobilePhone, String email, String officePhone) {
-        // 이름 + 휴대폰
-        if (mobilePhone != null) {
-            Optional<BusinessCard> found = businessCardRepository
-                    .findByUserAndNameAndMobilePhone(user, name, mobilePhone);
-            if (found.isPresent()) {
-                return found;
-            }
+    private void commitChunk(CardImportBatch batch, ImportCheckpoint checkpoint, int lastRow, User user,
+                             UploadResult result) {
+        transactionTemplate.executeWithoutResult(status -> {
+            batch.flush();
+
+            // 이전 커밋까지 저장한 메시지 수 (중복 메시지는 건너뛴 행마다 1건)
+            int savedErrors = checkpoint.getErrorCount();
+            int savedDuplicates = checkpoint.getSkipCount();
+
+            checkpoint.setLastRow(lastRow);
+            checkpoint.setTotalRows(result.getTotalRows());
+            checkpoint.setSuccessCount(result.getSuccessCount());
+            checkpoint.setUpdateCount(result.getUpdateCount());
+            checkpoint.setSkipCount(result.getSkipCount());
+            checkpoint.setErrorCount(result.getErrors().size());
+            checkpoint.setId(importCheckpointRepository.save(checkpoint).getId());
+            saveMessages(checkpoint.getId(), ImportCheckpointMessage.Type.ERROR,
+                    result.getErrors().subList(savedErrors, result.getErrors().size()));
+            saveMessages(checkpoint.getId(), ImportCheckpointMessage.Type.DUPLICATE,
+                    result.getDuplicates().subList(savedDuplicates, result.getDuplicates().size()));
+            cardSummaryService.refresh(user.getId());
+
+            eventPublisher.publishEvent(CardChangedEvent.bulk(user.getId()));
+        });
+    }
+
+    private void saveMessages(Long checkpointId, ImportCheckpointMessage.Type type, List<String> messages) {
+        List<ImportCheckpointMessage> entities = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            entities.add(ImportCheckpointMessage.builder()
+                    .checkpointId(checkpointId)
+                    .type(type)
+                    .message(message)
+                    .build());
         }
+        importCheckpointMessageRepository.saveAll(entities);
+    }
 
-        // 이름 + 이메일
-        if (email != null) {
-            Optional<BusinessCard> found = businessCardRepository
-                    .findByUserAndNameAndEmail(user, name, email);
-            if (found.isPresent()) {
-                return found;
+    private String fileHash(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
             }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
+    }
 
-        // 휴대폰 단독
-        if (mobilePhone != null) {
-            Optional<BusinessCard> found = businessCardRepository
-                    .findByUserAndMobilePhone(user, mobilePhone);
-            if (found.isPresent()) {
-                return found;
-            }
+    private void importRow(NormalizedRow row, User user, String duplicateAction,
+                           DuplicateKeyIndex duplicateKeys, CardImportBatch batch, UploadResult result) {
+        if (row.error() != null) {
+            result.getErrors().add(row.error());
+            return;
         }
 
-        // 이름 + 회사 (전화번호와 이메일이 둘 다 없을 때만)
-        if (company != null && mobilePhone == null && email == null) {
-            Optional<BusinessCard> found = businessCardRepository
-                    .findByUserAndNameAndCompany(user, name, company);
-            if (found.isPresent()) {
-                return found;
+        BusinessCardDto dto = row.dto();
+        String name = row.name();
+        String company = row.company();
+        String mobilePhone = row.mobilePhone();
+        String email = row.email();
+        String officePhone = row.officePhone();
+
+        // 중복 체크 (기존 명함 + 이 파일에서 먼저 저장한 행, 휴대폰은 정규화 키로 비교)
+        Long existingId = duplicateKeys.find(name, company, row.mobileKey(), email);
+
+        if (existingId != null) {
+            if ("overwrite".equals(duplicateAction)) {
+                // 덮어쓰기 (기존 레코드 삭제 후 새로운 레코드 생성)
+                batch.replace(existingId, convertToEntity(dto, user), name, company, row.mobileKey(), email);
+                result.setUpdateCount(result.getUpdateCount() + 1);
+            } else {
+                // 건너뛰기
+                String duplicateInfo = formatDuplicateInfo(name, company, mobilePhone, email, officePhone);
+                result.getDuplicates().add(duplicateInfo);
+                result.setSkipCount(result.getSkipCount() + 1);
             }
+        } else {
+            // 새로운 데이터 저장
+            batch.insert(convertToEntity(dto, user), name, company, row.mobileKey(), email);
+            result.setSuccessCount(result.getSuccessCount() + 1);
         }
-
-        return Optional.empty();
     }
 
     /**
@@ -244,254 +393,346 @@ public class BusinessCardService {
                 .build();
     }
 
-    private void updateBusinessCardFromDto(BusinessCard card, BusinessCardDto dto) {
-        card.setName(dto.getName());
-        card.setCompany(dto.getCompany());
-        card.setDepartment(dto.getDepartment());
-        card.setPosition(dto.getPosition());
-        card.setAddress(dto.getAddress());
-        card.setOfficePhone(dto.getOfficePhone());
-        card.setOfficeFax(dto.getOfficeFax());
-        card.setMobilePhone(dto.getMobilePhone());
-        card.setEmail(dto.getEmail());
-        card.setWebsite(dto.getWebsite());
-        card.setCategory(dto.getCategory());
-        card.setNotes(dto.getNotes());
+    /**
+     * 검색 + 정렬 (LIMIT/OFFSET은 DB에서 처리, 전체 조회는 Pageable.unpaged())
+     * 필드/카테고리/정렬 조합은 Specification으로 조립하고 키워드는 바인드 파라미터로 전달
+     * 목록 표에 필요한 컬럼만 프로젝션으로 조회
+     */
+    public Page<CardListRow> searchCards(User user, Category category, String keyword, String searchField, String sortBy,
+                                         Pageable pageable) {
+        String sortKey = normalizeSortBy(sortBy);
+
+        // 초성/부분 검색 - 메모리 n-gram 인덱스에서 id를 찾고 현재 페이지만 DB에서 조회
+        if (isQuickSearch(searchField, keyword)) {
+            return quickSearch(user, category, keyword, sortKey, pageable);
+        }
+
+        // 관련도순은 전문 검색일 때만 가능 (정렬은 Specification 안에서 점수로 지정)
+        boolean byRelevance = "relevance".equals(sortKey)
+                && fullTextSearch.toBooleanQuery(normalizeSearchField(searchField), keyword).isPresent();
+        Sort sort = byRelevance ? Sort.unsorted() : resolveSort(sortKey);
+
+        Pageable sortedPageable = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+
+        return businessCardRepository.findRows(
+                searchSpecification(user, category, keyword, searchField, byRelevance), CardListRow.class, sortedPageable);
     }
 
-    public List<BusinessCard> getAllCards(User user) {
-        return businessCardRepository.findByUser(user);
+    private Page<CardListRow> quickSearch(User user, Category category, String keyword, String sortBy,
+                                          Pageable pageable) {
+        List<Long> ids = cardNgramIndex.search(user.getId(), keyword, category, sortBy);
+
+        List<Long> pageIds = ids;
+        if (pageable.isPaged()) {
+            int from = (int) Math.min(pageable.getOffset(), ids.size());
+            int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), ids.size());
+            pageIds = ids.subList(from, to);
+        }
+
+        List<CardListRow> content = businessCardRepository.findRowsByIds(pageIds, CardListRow.class);
+
+        return new PageImpl<>(content, pageable, ids.size());
     }
 
     /**
-     * 검색 + 정렬
+     * 커서(키셋) 기반 검색 - (createdAt, id) 또는 (name, id) 기준으로 seek 하므로 깊은 페이지도 비용이 일정
      */
-    public List<BusinessCard> searchCards(User user, Category category, String keyword, String searchField, String sortBy) {
-        // 정렬 기본값
-        if (sortBy == null || sortBy.trim().isEmpty()) {
-            sortBy = "recent";
-        }
-
-        // 키워드가 없으면 카테고리 또는 전체 조회
-        if (keyword == null || keyword.trim().isEmpty()) {
-            if (category != null) {
-                return switch (sortBy) {
-                    case "name" -> businessCardRepository.findByUserAndCategoryOrderByName(user, category);
-                    case "oldest" -> businessCardRepository.findByUserAndCategoryOrderByCreatedAsc(user, category);
-                    default -> businessCardRepository.findByUserAndCategoryOrderByCreatedDesc(user, category);
-                };
-            } else {
-                return switch (sortBy) {
-                    case "name" -> businessCardRepository.findByUserOrderByNameAsc(user);
-                    case "oldest" -> businessCardRepository.findByUserOrderByCreatedAtAsc(user);
-                    default -> businessCardRepository.findByUserOrderByCreatedAtDesc(user);
-                };
-            }
+    public CardWindow scrollCards(User user, Category category, String keyword, String searchField, String sortBy,
+                                  String cursor, int size) {
+        String sort = normalizeSortBy(sortBy);
+        KeysetScrollPosition position = cursorUtil.decode(cursor, sort);
+
+        if (isQuickSearch(searchField, keyword)) {
+            return quickScroll(user, category, keyword, sort, position, size);
         }
 
-        // 검색 필드 기본값
-        if (searchField == null || searchField.trim().isEmpty()) {
-            searchField = "all";
-        }
-
-
-
-//        // 검색 + 정렬
-//        return switch (searchField) {
-//            case "name" -> switch (sortBy) {
-//                case "name" -> businessCardRepository.searchByNameOrderByName(user, keyword);
-//                case "oldest" -> businessCardRepository.searchByNameOrderByCreatedAsc(user, keyword);
-//                default -> businessCardRepository.searchByNameOrderByCreatedDesc(user, keyword);
-//            };
-//            case "company" -> switch (sortBy) {
-//                case "name" -> businessCardRepository.searchByCompanyOrderByName(user, keyword);
-//                case "oldest" -> businessCardRepository.searchByCompanyOrderByCreatedAsc(user, keyword);
-//                default -> businessCardRepository.searchByCompanyOrderByCreatedDesc(user, keyword);
-//            };
-//            case "position" -> switch (sortBy) {
-//                case "name" -> businessCardRepository.searchByPositionOrderByName(user, keyword);
-//                case "oldest" -> businessCardRepository.searchByPositionOrderByCreatedAsc(user, keyword);
-//                default -> businessCardRepository.searchByPositionOrderByCreatedDesc(user, keyword);
-//            };
-//            case "address" -> switch (sortBy) {
-//                case "name" -> businessCardRepository.searchByAddressOrderByName(user, keyword);
-//                case "oldest" -> businessCardRepository.searchByAddressOrderByCreatedAsc(user, keyword);
-//                default -> businessCardRepository.searchByAddressOrderByCreatedDesc(user, keyword);
-//            };
-//            default -> switch (sortBy) {
-//                case "name" -> businessCardRepository.searchByKeywordOrderByName(user, keyword);
-//                case "oldest" -> businessCardRepository.searchByKeywordOrderByCreatedAsc(user, keyword);
-//                default -> businessCardRepository.searchByKeywordOrderByCreatedDesc(user, keyword);
-//            };
-//        };
-
-        // 검색 + 정렬 + 카테고리
-        return switch (searchField != null ? searchField : "all") {
-            case "name" -> switch (sortBy != null ? sortBy : "recent") {
-                case "name" -> category != null
-                        ? businessCardRepository.searchByNameAndCategoryOrderByName(user, keyword, category)
-                        : businessCardRepository.searchByNameOrderByName(user, keyword);
-                case "oldest" -> category != null
-                        ? businessCardRepository.searchByNameAndCategoryOrderByCreatedAsc(user, keyword, category)
-                        : businessCardRepository.searchByNameOrderByCreatedAsc(user, keyword);
-                default -> category != null
-                        ? businessCardRepository.searchByNameAndCategoryOrderByCreatedDesc(user, keyword, category)
-                        : businessCardRepository.searchByNameOrderByCreatedDesc(user, keyword);
-            };
-            case "company" -> switch (sortBy != null ? sortBy : "recent") {
-                case "name" -> category != null
-                        ? businessCardRepository.searchByCompanyAndCategoryOrderByName(user, keyword, category)
-                        : businessCardRepository.searchByCompanyOrderByName(user, keyword);
-                case "oldest" -> category != null
-                        ? businessCardRepository.searchByCompanyAndCategoryOrderByCreatedAsc(user, keyword, category)
-                        : businessCardRepository.searchByCompanyOrderByCreatedAsc(user, keyword);
-                default -> category != null
-                        ? businessCardRepository.searchByCompanyAndCategoryOrderByCreatedDesc(user, keyword, category)
-                        : businessCardRepository.searchByCompanyOrderByCreatedDesc(user, keyword);
-            };
-            case "position" -> switch (sortBy != null ? sortBy : "recent") {
-                case "name" -> category != null
-                        ? businessCardRepository.searchByPositionAndCategoryOrderByName(user, keyword, category)
-                        : businessCardRepository.searchByPositionOrderByName(user, keyword);
-                case "oldest" -> category != null
-                        ? businessCardRepository.searchByPositionAndCategoryOrderByCreatedAsc(user, keyword, category)
-                        : businessCardRepository.searchByPositionOrderByCreatedAsc(user, keyword);
-                default -> category != null
-                        ? businessCardRepository.searchByPositionAndCategoryOrderByCreatedDesc(user, keyword, category)
-                        : businessCardRepository.searchByPositionOrderByCreatedDesc(user, keyword);
-            };
-            case "address" -> switch (sortBy != null ? sortBy : "recent") {
-                case "name" -> category != null
-                        ? businessCardRepository.searchByAddressAndCategoryOrderByName(user, keyword, category)
-                        : businessCardRepository.searchByAddressOrderByName(user, keyword);
-                case "oldest" -> category != null
-                        ? businessCardRepository.searchByAddressAndCategoryOrderByCreatedAsc(user, keyword, category)
-                        : businessCardRepository.searchByAddressOrderByCreatedAsc(user, keyword);
-                default -> category != null
-                        ? businessCardRepository.searchByAddressAndCategoryOrderByCreatedDesc(user, keyword, category)
-                        : businessCardRepository.searchByAddressOrderByCreatedDesc(user, keyword);
-            };
-            default -> switch (sortBy != null ? sortBy : "recent") {
-                case "name" -> category != null
-                        ? businessCardRepository.searchByKeywordAndCategoryOrderByName(user, keyword, category)
-                        : businessCardRepository.searchByKeywordOrderByName(user, keyword);
-                case "oldest" -> category != null
-                        ? businessCardRepository.searchByKeywordAndCategoryOrderByCreatedAsc(user, keyword, category)
-                        : businessCardRepository.searchByKeywordOrderByCreatedAsc(user, keyword);
-                default -> category != null
-                        ? businessCardRepository.searchByKeywordAndCategoryOrderByCreatedDesc(user, keyword, category)
-                        : businessCardRepository.searchByKeywordOrderByCreatedDesc(user, keyword);
-            };
-        };
+        Window<CardListRow> window = businessCardRepository.scrollRows(
+                searchSpecification(user, category, keyword, searchField, false),
+                CardListRow.class, resolveSort(sort), size, position);
+
+        CardWindow result = CardWindow.builder().cards(window.getContent()).build();
+        if (window.isEmpty()) {
+            return result;
+        }
+
+        String firstCursor = cursorUtil.encode(sort, ScrollPosition.backward(keysAt(window, 0)));
+        String lastCursor = cursorUtil.encode(sort, ScrollPosition.forward(keysAt(window, window.size() - 1)));
+
+        // 역방향 조회에서 hasNext는 앞쪽에 더 있다는 의미
+        if (position.scrollsBackward()) {
+            result.setPrevCursor(window.hasNext() ? firstCursor : null);
+            result.setNextCursor(lastCursor);
+        } else {
+            result.setPrevCursor(position.isInitial() ? null : firstCursor);
+            result.setNextCursor(window.hasNext() ? lastCursor : null);
+        }
+
+        return result;
+    }
+
+    /**
+     * 초성/부분 검색 커서 페이징 - 인덱스가 정렬해 돌려준 id 목록에서 커서 id 다음(역방향이면 이전) size개
+     * 커서에는 id만 담고, 커서 명함이 목록에서 사라졌으면 첫 페이지부터
+     */
+    private CardWindow quickScroll(User user, Category category, String keyword, String sort,
+                                   KeysetScrollPosition position, int size) {
+        List<Long> ids = cardNgramIndex.search(user.getId(), keyword, category, sort);
+
+        int from = 0;
+        int to = Math.min(size, ids.size());
+        int at = position.isInitial() ? -1 : ids.indexOf(position.getKeys().get("id"));
+        if (at >= 0 && position.scrollsBackward()) {
+            from = Math.max(0, at - size);
+            to = at;
+        } else if (at >= 0) {
+            from = at + 1;
+            to = Math.min(from + size, ids.size());
+        }
+
+        List<Long> pageIds = ids.subList(from, to);
+        CardWindow result = CardWindow.builder()
+                .cards(businessCardRepository.findRowsByIds(pageIds, CardListRow.class))
+                .build();
+        if (pageIds.isEmpty()) {
+            return result;
+        }
+
+        if (from > 0) {
+            result.setPrevCursor(cursorUtil.encode(sort, ScrollPosition.backward(Map.of("id", pageIds.get(0)))));
+        }
+        if (to < ids.size()) {
+            result.setNextCursor(cursorUtil.encode(sort,
+                    ScrollPosition.forward(Map.of("id", pageIds.get(pageIds.size() - 1)))));
+        }
+        return result;
+    }
+
+    private Map<String, ?> keysAt(Window<?> window, int index) {
+        return ((KeysetScrollPosition) window.positionAt(index)).getKeys();
+    }
 
+    private Specification<BusinessCard> searchSpecification(User user, Category category, String keyword,
+                                                            String searchField, boolean byRelevance) {
+        Specification<BusinessCard> spec = BusinessCardSpecifications.ownedBy(user);
 
+        if (category != null) {
+            spec = spec.and(BusinessCardSpecifications.inCategory(category));
+        }
 
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            String field = normalizeSearchField(searchField);
 
+            // 전체 필드 검색은 FULLTEXT 인덱스, 단일 필드/짧은 검색어는 LIKE
+            spec = spec.and(fullTextSearch.toBooleanQuery(field, keyword)
+                    .map(query -> BusinessCardSpecifications.fullTextMatches(query, byRelevance))
+                    .orElseGet(() -> BusinessCardSpecifications.keywordMatches(field, keyword)));
+        }
 
+        return spec;
     }
 
-    public Map<Category, Long> getCategoryStatistics(User user) {
-        List<BusinessCard> allCards = businessCardRepository.findByUser(user);
-        return allCards.stream()
-                .collect(Collectors.groupingBy(BusinessCard::getCategory, Collectors.counting()));
+    // 초성/부분 검색은 DB 조건 대신 메모리 n-gram 인덱스의 정렬된 id 목록을 사용 (Specification으로 만들지 않음)
+    private boolean isQuickSearch(String searchField, String keyword) {
+        return "quick".equals(searchField) && keyword != null && !keyword.trim().isEmpty();
     }
 
-    public List<BusinessCard> getRecentCards(User user, int limit) {
-        return businessCardRepository.findByUserOrderByCreatedAtDesc(user)
-                .stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+    private String normalizeSearchField(String searchField) {
+        return (searchField == null || searchField.trim().isEmpty()) ? "all" : searchField;
     }
 
-    public long getTotalCount(User user) {
-        return businessCardRepository.countByUser(user);
+    private String normalizeSortBy(String sortBy) {
+        return (sortBy == null || sortBy.trim().isEmpty()) ? "recent" : sortBy;
+    }
+
+    // 키셋 정렬 - 동일 값 구분을 위해 id를 항상 마지막 키로 포함 (관련도순은 키셋 불가 -> 최근순)
+    private Sort resolveSort(String sortBy) {
+        return switch (sortBy) {
+            case "name" -> Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id"));
+            case "oldest" -> Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+            default -> Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        };
     }
 
     /**
-     * ExcelUtil을 사용한 엑셀 다운로드
+     * 카테고리별 건수와 전체 건수 (card_summary 한 행 조회)
      */
-    public byte[] exportToExcel(List<BusinessCard> cards) throws IOException {
-        return excelUtil.generateExcelFile(cards);
+    public CardStatistics getCardStatistics(User user) {
+        return cardSummaryService.getStatistics(user.getId());
+    }
+
+    public List<RecentCard> getRecentCards(User user, int limit) {
+        return recentCardCache.get(user.getId(), limit);
     }
 
     /**
-     * 중복 명함 찾기
+     * ExcelUtil을 사용한 엑셀 다운로드 - 검색 결과를 청크 단위로 읽어 작성기(SXSSF 임시 파일)에 모두 기록한 뒤 반환
+     * 응답 스트림 쓰기와 작성기 닫기는 호출한 쪽에서 트랜잭션 밖에서 수행 (느린 클라이언트가 DB 커넥션을 붙잡지 않도록)
      */
-    public Map<String, List<BusinessCard>> findDuplicates(User user) {
-        List<BusinessCard> allCards = businessCardRepository.findByUser(user);
-        Map<String, List<BusinessCard>> duplicates = new HashMap<>();
+    public ExcelUtil.CardSheetWriter exportToExcel(User user, Category category, String keyword, String searchField,
+                                                   String sortBy) throws IOException {
+        ExcelUtil.CardSheetWriter writer = excelUtil.openSheetWriter();
+        boolean filled = false;
+        try {
+            forEachRow(user, category, keyword, searchField, sortBy, ExportRow.class, writer::append);
+            filled = true;
+            return writer;
+        } finally {
+            if (!filled) {
+                writer.close();
+            }
+        }
+    }
 
-        // 이름 + 휴대폰으로 그룹화
-        Map<String, List<BusinessCard>> groupedByNameAndPhone = allCards.stream()
-                .filter(card -> card.getName() != null && card.getMobilePhone() != null)
-                .collect(Collectors.groupingBy(card ->
-                        card.getName() + "|" + card.getMobilePhone()));
-
-        groupedByNameAndPhone.forEach((key, cards) -> {
-            if (cards.size() > 1) {
-                duplicates.put(key, cards);
+    /**
+     * 검색 결과 전체를 앞으로만 순회 (키셋 청크 단위로 필요한 컬럼만 프로젝션 조회)
+     */
+    private <T> void forEachRow(User user, Category category, String keyword, String searchField, String sortBy,
+                                Class<T> type, Consumer<T> action) {
+        String sort = normalizeSortBy(sortBy);
+
+        // 초성/부분 검색은 인덱스에서 찾은 id 순서대로 청크 조회
+        if (isQuickSearch(searchField, keyword)) {
+            List<Long> ids = cardNgramIndex.search(user.getId(), keyword, category, sort);
+            for (int from = 0; from < ids.size(); from += EXPORT_CHUNK_SIZE) {
+                businessCardRepository.findRowsByIds(ids.subList(from, Math.min(from + EXPORT_CHUNK_SIZE, ids.size())), type)
+                        .forEach(action);
             }
-        });
+            return;
+        }
 
-//        // 이름 + 회사로 그룹화
-//        Map<String, List<BusinessCard>> groupedByNameAndCompany = allCards.stream()
-//                .filter(card -> card.getName() != null && card.getCompany() != null)
-//                .collect(Collectors.groupingBy(card ->
-//                        card.getName() + "|" + card.getCompany()));
-//
-//        groupedByNameAndCompany.forEach((key, cards) -> {
-//            if (cards.size() > 1 && !duplicates.containsKey(key)) {
-//                duplicates.put(key, cards);
-//            }
-//        });
+        Specification<BusinessCard> spec = searchSpecification(user, category, keyword, searchField, false);
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        Window<T> window;
 
-        // 이름 + 이메일로 그룹화
-        Map<String, List<BusinessCard>> groupedByNameAndEmail = allCards.stream()
-                .filter(card -> card.getName() != null && card.getEmail() != null)
-                .collect(Collectors.groupingBy(card ->
-                        card.getName() + "|" + card.getEmail()));
-
-        groupedByNameAndEmail.forEach((key, cards) -> {
-            if (cards.size() > 1 && !duplicates.containsKey(key)) {
-                duplicates.put(key, cards);
+        do {
+            window = businessCardRepository.scrollRows(spec, type, resolveSort(sort), EXPORT_CHUNK_SIZE, position);
+            window.forEach(action);
+
+            if (!window.isEmpty()) {
+                position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
             }
-        });
+        } while (window.hasNext());
+    }
+
+    /**
+     * 중복 명함 찾기 - DB에서 GROUP BY ... HAVING 으로 중복 키만 추린 뒤 해당 명함만 조회
+     * (이름 + 휴대폰, 이름 + 이메일 순, 각 그룹은 등록순 정렬)
+     */
+    public Map<String, List<BusinessCard>> findDuplicates(User user) {
+        Map<String, List<BusinessCard>> duplicates = new LinkedHashMap<>();
+        Long userId = user.getId();
+
+        // 이름 + 휴대폰으로 그룹화
+        collectDuplicateGroups(businessCardRepository.findDuplicateMobileKeys(userId),
+                keys -> businessCardRepository.findByUserIdAndMobileKeyIn(userId, keys),
+                BusinessCard::getMobileKey, BusinessCard::getMobilePhone, duplicates);
+
+        // 이름 + 이메일로 그룹화
+        collectDuplicateGroups(businessCardRepository.findDuplicateEmailKeys(userId),
+                keys -> businessCardRepository.findByUserIdAndEmailKeyIn(userId, keys),
+                BusinessCard::getEmailKey, BusinessCard::getEmail, duplicates);
 
         return duplicates;
     }
 
     /**
-     * 중복 명함 삭제
+     * 유사 중복 명함 찾기 (오타/띄어쓰기/표기 차이 포함, 그룹 키는 "이름 외 n건")
      */
-    public int cleanDuplicates(User user, String strategy) {
-        Map<String, List<BusinessCard>> duplicates = findDuplicates(user);
-        int deletedCount = 0;
+    public Map<String, List<BusinessCard>> findNearDuplicates(User user) {
+        List<List<Long>> groups = nearDuplicateDetector.findGroups(
+                businessCardRepository.findKeyRowsByUserId(user.getId()));
+
+        List<Long> ids = groups.stream().flatMap(List::stream).collect(Collectors.toList());
+        Map<Long, BusinessCard> cardsById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += DUPLICATE_KEY_CHUNK_SIZE) {
+            businessCardRepository.findByIdIn(ids.subList(from, Math.min(from + DUPLICATE_KEY_CHUNK_SIZE, ids.size())))
+                    .forEach(card -> cardsById.put(card.getId(), card));
+        }
 
-        for (List<BusinessCard> cards : duplicates.values()) {
-            if (cards.size() <= 1) continue;
+        Map<String, List<BusinessCard>> duplicates = new LinkedHashMap<>();
+        groups.stream()
+                .map(group -> group.stream()
+                        .map(cardsById::get)
+                        .filter(Objects::nonNull)
+                        .sorted(Comparator.comparing(BusinessCard::getCreatedAt).thenComparing(BusinessCard::getId))
+                        .collect(Collectors.toList()))
+                .filter(cards -> cards.size() > 1)
+                .sorted(Comparator.comparing(cards -> cards.get(0).getName()))
+                .forEach(cards -> duplicates.put(
+                        String.format("%s 외 %d건 (#%d)", cards.get(0).getName(), cards.size() - 1, cards.get(0).getId()),
+                        cards));
 
-            // 정렬
-            cards.sort(Comparator.comparing(BusinessCard::getCreatedAt));
+        return duplicates;
+    }
+
+    private void collectDuplicateGroups(List<DuplicateKey> duplicateKeys,
+                                        Function<List<String>, List<BusinessCard>> loader,
+                                        Function<BusinessCard, String> contactKeyOf,
+                                        Function<BusinessCard, String> contactOf,
+                                        Map<String, List<BusinessCard>> duplicates) {
+        if (duplicateKeys.isEmpty()) {
+            return;
+        }
 
-            // 남길 카드 결정
-            BusinessCard keepCard = "oldest".equals(strategy) ? cards.get(0) : cards.get(cards.size() - 1);
+        Set<String> groupKeys = duplicateKeys.stream()
+                .map(key -> groupKey(key.getName(), key.getContactKey()))
+                .collect(Collectors.toSet());
+        List<String> contactKeys = duplicateKeys.stream()
+                .map(DuplicateKey::getContactKey)
+                .distinct()
+                .collect(Collectors.toList());
 
-            // 나머지 삭제
-            for (BusinessCard card : cards) {
-                if (!card.getId().equals(keepCard.getId())) {
-                    businessCardRepository.delete(card);
-                    deletedCount++;
+        // 연락처 키로 조회한 뒤 이름까지 같은 명함만 그룹에 담음
+        Map<String, List<BusinessCard>> groups = new TreeMap<>();
+        for (int from = 0; from < contactKeys.size(); from += DUPLICATE_KEY_CHUNK_SIZE) {
+            List<String> chunk = contactKeys.subList(from, Math.min(from + DUPLICATE_KEY_CHUNK_SIZE, contactKeys.size()));
+            for (BusinessCard card : loader.apply(chunk)) {
+                String groupKey = groupKey(card.getName(), contactKeyOf.apply(card));
+                if (groupKeys.contains(groupKey)) {
+                    groups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(card);
                 }
             }
         }
 
+        for (List<BusinessCard> cards : groups.values()) {
+            if (cards.size() < 2) {
+                continue;
+            }
+            cards.sort(Comparator.comparing(BusinessCard::getCreatedAt).thenComparing(BusinessCard::getId));
+
+            BusinessCard first = cards.get(0);
+            duplicates.putIfAbsent(first.getName() + "|" + contactOf.apply(first), cards);
+        }
+    }
+
+    // 이름은 DB 콜레이션처럼 대소문자 구분 없이 비교
+    private String groupKey(String name, String contactKey) {
+        return name.trim().toLowerCase(Locale.ROOT) + "|" + contactKey;
+    }
+
+    /**
+     * 중복 명함 삭제 - 남길 명함을 제외한 id를 한 번에 구해 IN 절 일괄 DELETE
+     */
+    @Transactional
+    public int cleanDuplicates(User user, String strategy) {
+        List<Long> redundantIds = businessCardBulkRepository.findRedundantDuplicateIds(
+                user.getId(), "oldest".equals(strategy));
+        int deletedCount = businessCardBulkRepository.deleteAllById(redundantIds);
+
+        if (deletedCount > 0) {
+            cardSummaryService.refresh(user.getId());
+            eventPublisher.publishEvent(CardChangedEvent.bulk(user.getId()));
+        }
         return deletedCount;
     }
 
     /**
-     * 이메일 저장
+     * 이메일 저장 - 검색 결과의 회사/이메일 컬럼만 조회
      */
-    public byte[] exportEmailsToTxt(List<BusinessCard> cards, String excludeCompanies, boolean semicolon) throws IOException {
+    public byte[] exportEmailsToTxt(User user, Category category, String keyword, String searchField, String sortBy,
+                                    String excludeCompanies, boolean semicolon) throws IOException {
         // 제외할 회사명 리스트 생성
         Set<String> excludeSet = new HashSet<>();
         if (excludeCompanies != null && !excludeCompanies.trim().isEmpty()) {
@@ -504,19 +745,18 @@ public class BusinessCardService {
         // 중복 제거
         Set<String> uniqueEmails = new LinkedHashSet<>();
 
-
-        for (BusinessCard card : cards) {
+        forEachRow(user, category, keyword, searchField, sortBy, EmailRow.class, card -> {
 
             if (card.getCompany() != null &&
                     excludeSet.contains(card.getCompany().trim().toLowerCase())) {
-                continue;
+                return;
             }
 
             // 이메일이 존재하면 추가
             if (card.getEmail() != null && !card.getEmail().trim().isEmpty()) {
                 uniqueEmails.add(card.getEmail().trim());
             }
-        }
+        });
 
         // TXT 파일 생성 (10개씩 줄바꿈)
         StringBuilder content = new StringBuilder();
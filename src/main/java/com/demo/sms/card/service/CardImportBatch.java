@@ -0,0 +1,78 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.entity.BusinessCard;
+import com.demo.sms.card.repository.BusinessCardBulkRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 엑셀 가져오기 쓰기 버퍼 - 저장/덮어쓰기를 모아 두었다가 batchSize(청크) 단위로 한 번에 실행
+ * 아직 저장 전인 행은 임시 id(음수)로 중복 키 인덱스에 등록해 같은 파일의 다음 행과 비교
+ */
+class CardImportBatch {
+
+    private final BusinessCardBulkRepository bulkRepository;
+    private final DuplicateKeyIndex duplicateKeys;
+
+    private final Map<Long, BusinessCard> pendingInserts = new LinkedHashMap<>();
+    private final Set<Long> pendingDeletes = new LinkedHashSet<>();
+    private long nextTempId = -1;
+
+    CardImportBatch(BusinessCardBulkRepository bulkRepository, DuplicateKeyIndex duplicateKeys) {
+        this.bulkRepository = bulkRepository;
+        this.duplicateKeys = duplicateKeys;
+    }
+
+    /**
+     * 새 명함 저장 예약
+     */
+    void insert(BusinessCard card, String name, String company, String mobileKey, String emailKey) {
+        long tempId = nextTempId--;
+        pendingInserts.put(tempId, card);
+        duplicateKeys.add(tempId, name, company, mobileKey, emailKey);
+    }
+
+    /**
+     * 한 청크만큼 모였는지 확인 (호출하는 쪽에서 트랜잭션을 열고 flush)
+     */
+    boolean isFull() {
+        return pendingInserts.size() >= bulkRepository.getBatchSize();
+    }
+
+    /**
+     * 덮어쓰기 예약 - 저장 전인 행이면 버퍼에서 빼고, 저장된 명함이면 삭제 대상에 추가
+     */
+    void replace(Long existingId, BusinessCard card, String name, String company, String mobileKey, String emailKey) {
+        duplicateKeys.remove(existingId);
+
+        if (existingId < 0) {
+            pendingInserts.remove(existingId);
+        } else {
+            pendingDeletes.add(existingId);
+        }
+
+        insert(card, name, company, mobileKey, emailKey);
+    }
+
+    /**
+     * 모아 둔 삭제/저장 실행 후 임시 id를 실제 id로 교체
+     */
+    void flush() {
+        bulkRepository.deleteAllById(pendingDeletes);
+        pendingDeletes.clear();
+
+        List<Long> tempIds = new ArrayList<>(pendingInserts.keySet());
+        List<BusinessCard> cards = new ArrayList<>(pendingInserts.values());
+        bulkRepository.insertAll(cards);
+
+        for (int i = 0; i < cards.size(); i++) {
+            duplicateKeys.rename(tempIds.get(i), cards.get(i).getId());
+        }
+        pendingInserts.clear();
+    }
+}
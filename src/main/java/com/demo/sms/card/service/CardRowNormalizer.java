@@ -0,0 +1,40 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.dto.BusinessCardDto;
+import com.demo.sms.card.entity.BusinessCard.Category;
+import com.demo.sms.card.util.ContactNormalizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 행 정규화/검증 - DB를 쓰지 않는 순수 연산이라 여러 스레드에서 동시에 호출 가능
+ */
+@Component
+public class CardRowNormalizer {
+
+    NormalizedRow normalize(BusinessCardDto dto, int rowNumber, Category category) {
+        dto.setCategory(category);
+
+        // 이름 필수 체크
+        if (dto.getName() == null || dto.getName().trim().isEmpty()) {
+            return NormalizedRow.invalid(rowNumber, String.format("행 %d: 이름이 누락되었습니다", rowNumber));
+        }
+
+        // 데이터 정규화
+        String name = dto.getName().trim();
+        String company = trimToNull(dto.getCompany());
+        String mobilePhone = trimToNull(dto.getMobilePhone());
+        String email = trimToNull(dto.getEmail());
+        String officePhone = trimToNull(dto.getOfficePhone());
+
+        // 이메일은 마지막 주소만 소문자로 저장 (이 값이 곧 중복 판정 키)
+        email = ContactNormalizer.emailKey(email);
+        dto.setEmail(email);
+
+        return new NormalizedRow(rowNumber, dto, name, company, mobilePhone, email, officePhone,
+                ContactNormalizer.phoneKey(mobilePhone), null);
+    }
+
+    private String trimToNull(String value) {
+        return (value != null && !value.trim().isEmpty()) ? value.trim() : null;
+    }
+}
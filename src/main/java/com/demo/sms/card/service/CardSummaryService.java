@@ -0,0 +1,95 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.dto.CardStatistics;
+import com.demo.sms.card.dto.SummaryCounts;
+import com.demo.sms.card.entity.BusinessCard.Category;
+import com.demo.sms.card.repository.CardSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 사용자별 명함 집계(card_summary) 관리
+ * 단건 변경은 호출한 쪽 트랜잭션 안에서 증감하고, 대량 변경은 다시 집계
+ * 어긋난 집계는 주기적으로 찾아 복구
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CardSummaryService {
+
+    private final CardSummaryRepository cardSummaryRepository;
+
+    public void cardAdded(Long userId, Category category) {
+        applyChange(userId, 1, category, null);
+    }
+
+    public void cardRemoved(Long userId, Category category) {
+        applyChange(userId, -1, null, category);
+    }
+
+    public void categoryChanged(Long userId, Category from, Category to) {
+        if (from != to) {
+            applyChange(userId, 0, to, from);
+        }
+    }
+
+    /**
+     * business_card에서 다시 집계 (업로드, 중복 제거 등 대량 변경 후)
+     */
+    public void refresh(Long userId) {
+        cardSummaryRepository.refresh(userId);
+    }
+
+    /**
+     * 집계 조회 - 집계 행이 아직 없으면 저장하지 않고 바로 집계 (행은 다음 변경이나 주기 점검 때 생성)
+     */
+    @Transactional(readOnly = true)
+    public CardStatistics getStatistics(Long userId) {
+        SummaryCounts counts = cardSummaryRepository.findById(userId)
+                .<SummaryCounts>map(summary -> summary)
+                .orElseGet(() -> cardSummaryRepository.summarize(userId));
+
+        CardStatistics statistics = CardStatistics.builder().total(counts.getTotal()).build();
+        putIfPositive(statistics, Category.COMPANY, counts.getCompanyCount());
+        putIfPositive(statistics, Category.SCHOOL, counts.getSchoolCount());
+        putIfPositive(statistics, Category.ASSOCIATION, counts.getAssociationCount());
+        putIfPositive(statistics, Category.GOVERNMENT, counts.getGovernmentCount());
+        return statistics;
+    }
+
+    /**
+     * 실제 명함 수와 어긋난 집계 복구, 빠진 집계 행 생성
+     */
+    @Scheduled(fixedDelayString = "${card.summary.reconcile-interval:PT1H}",
+            initialDelayString = "${card.summary.reconcile-interval:PT1H}")
+    public void reconcile() {
+        List<Long> driftedUserIds = cardSummaryRepository.findDriftedUserIds();
+        if (driftedUserIds.isEmpty()) {
+            return;
+        }
+
+        log.warn("명함 집계 불일치 복구: {}명", driftedUserIds.size());
+        driftedUserIds.forEach(cardSummaryRepository::refresh);
+    }
+
+    // 집계 행이 없으면(처음 사용하거나 아직 집계 전) 현재 상태로 다시 집계 - 이미 반영된 변경이라 증감은 하지 않음
+    private void applyChange(Long userId, int totalDelta, Category added, Category removed) {
+        int updated = cardSummaryRepository.applyChange(userId, totalDelta,
+                added != null ? added.name() : null, removed != null ? removed.name() : null);
+        if (updated == 0) {
+            cardSummaryRepository.refresh(userId);
+        }
+    }
+
+    private void putIfPositive(CardStatistics statistics, Category category, long count) {
+        if (count > 0) {
+            statistics.getByCategory().put(category, count);
+        }
+    }
+}
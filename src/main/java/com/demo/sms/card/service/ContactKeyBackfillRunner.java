@@ -0,0 +1,69 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.util.ContactNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 정규화 키 컬럼이 추가되기 전에 저장된 명함의 mobile_key / email_key 채우기
+ * (id 순으로 BATCH_SIZE 건씩 읽어 키를 계산하고 일괄 UPDATE)
+ * 끝나면 app_migration에 기록해 다음 시작부터는 건너뜀 - 이후 저장되는 명함은 저장 시점에 키가 채워짐
+ * (정규화할 수 없는 번호/이메일은 키가 계속 NULL이라 매번 다시 읽게 되므로 조건이 아닌 완료 기록으로 판단)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContactKeyBackfillRunner implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String MIGRATION_NAME = "contact-key-backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private record KeyRow(long id, String mobileKey, String emailKey) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer completed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM app_migration WHERE name = ?", Integer.class, MIGRATION_NAME);
+        if (completed != null && completed > 0) {
+            return;
+        }
+
+        long lastId = 0;
+        int updated = 0;
+
+        while (true) {
+            List<KeyRow> rows = jdbcTemplate.query(
+                    "SELECT id, mobile_phone, email FROM business_card WHERE id > ? " +
+                            "AND ((mobile_key IS NULL AND mobile_phone IS NOT NULL) OR (email_key IS NULL AND email IS NOT NULL)) " +
+                            "ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new KeyRow(rs.getLong("id"),
+                            ContactNormalizer.phoneKey(rs.getString("mobile_phone")),
+                            ContactNormalizer.emailKey(rs.getString("email"))),
+                    lastId, BATCH_SIZE);
+
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            jdbcTemplate.batchUpdate("UPDATE business_card SET mobile_key = ?, email_key = ? WHERE id = ?",
+                    rows.stream()
+                            .map(row -> new Object[]{row.mobileKey(), row.emailKey(), row.id()})
+                            .toList());
+
+            lastId = rows.get(rows.size() - 1).id();
+            updated += rows.size();
+        }
+
+        jdbcTemplate.update("INSERT IGNORE INTO app_migration (name, completed_at) VALUES (?, NOW())", MIGRATION_NAME);
+        log.info("연락처 정규화 키 채움: {}건", updated);
+    }
+}
@@ -0,0 +1,131 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.dto.CardKeyRow;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 엑셀 업로드 중복 판정용 메모리 인덱스
+ * 사용자의 기존 명함 키를 한 번에 적재하고, 업로드하면서 저장한 행도 바로 반영해 파일 내부 중복까지 판정
+ * 휴대폰/이메일은 ContactNormalizer 키로 비교하고, 이름/회사는 DB 콜레이션처럼 대소문자 구분 없이 비교
+ */
+class DuplicateKeyIndex {
+
+    private final Map<String, Long> byNameAndMobile = new HashMap<>();
+    private final Map<String, Long> byNameAndEmail = new HashMap<>();
+    private final Map<String, Long> byMobile = new HashMap<>();
+    private final Map<String, Long> byNameAndCompany = new HashMap<>();
+
+    // 덮어쓰기로 삭제된 명함의 키를 지우기 위한 역방향 맵
+    private final Map<Long, List<String>> keysById = new HashMap<>();
+
+    DuplicateKeyIndex(List<CardKeyRow> rows) {
+        for (CardKeyRow row : rows) {
+            add(row.getId(), row.getName(), row.getCompany(), row.getMobileKey(), row.getEmailKey());
+        }
+    }
+
+    /**
+     * 기존 명함 id 찾기 - 우선순위는 이름+휴대폰, 이름+이메일, 휴대폰, 이름+회사(휴대폰/이메일 키가 둘 다 없을 때만)
+     */
+    Long find(String name, String company, String mobileKey, String emailKey) {
+        Long id = null;
+
+        if (mobileKey != null) {
+            id = byNameAndMobile.get(key(name, mobileKey));
+        }
+        if (id == null && emailKey != null) {
+            id = byNameAndEmail.get(key(name, emailKey));
+        }
+        if (id == null && mobileKey != null) {
+            id = byMobile.get(key(mobileKey));
+        }
+        if (id == null && company != null && mobileKey == null && emailKey == null) {
+            id = byNameAndCompany.get(key(name, company));
+        }
+
+        return id;
+    }
+
+    /**
+     * 저장한 명함의 키 등록 (같은 키가 이미 있으면 먼저 등록된 명함 유지)
+     */
+    void add(Long id, String name, String company, String mobileKey, String emailKey) {
+        List<String> keys = new ArrayList<>(4);
+
+        if (name != null && mobileKey != null) {
+            putKey(byNameAndMobile, "nm:", key(name, mobileKey), id, keys);
+        }
+        if (name != null && emailKey != null) {
+            putKey(byNameAndEmail, "ne:", key(name, emailKey), id, keys);
+        }
+        if (mobileKey != null) {
+            putKey(byMobile, "m:", key(mobileKey), id, keys);
+        }
+        if (name != null && company != null) {
+            putKey(byNameAndCompany, "nc:", key(name, company), id, keys);
+        }
+
+        if (!keys.isEmpty()) {
+            keysById.put(id, keys);
+        }
+    }
+
+    /**
+     * 삭제한 명함의 키 제거
+     */
+    void remove(Long id) {
+        List<String> keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+
+        for (String tagged : keys) {
+            int split = tagged.indexOf(':');
+            mapFor(tagged.substring(0, split + 1)).remove(tagged.substring(split + 1), id);
+        }
+    }
+
+    /**
+     * 임시 id로 등록한 키를 저장 후 발급된 id로 교체
+     */
+    void rename(Long oldId, Long newId) {
+        List<String> keys = keysById.remove(oldId);
+        if (keys == null) {
+            return;
+        }
+
+        for (String tagged : keys) {
+            int split = tagged.indexOf(':');
+            mapFor(tagged.substring(0, split + 1)).replace(tagged.substring(split + 1), oldId, newId);
+        }
+        keysById.put(newId, keys);
+    }
+
+    private void putKey(Map<String, Long> map, String tag, String key, Long id, List<String> keys) {
+        if (map.putIfAbsent(key, id) == null) {
+            keys.add(tag + key);
+        }
+    }
+
+    private Map<String, Long> mapFor(String tag) {
+        return switch (tag) {
+            case "nm:" -> byNameAndMobile;
+            case "ne:" -> byNameAndEmail;
+            case "m:" -> byMobile;
+            default -> byNameAndCompany;
+        };
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(String first, String second) {
+        return key(first) + "|" + key(second);
+    }
+}
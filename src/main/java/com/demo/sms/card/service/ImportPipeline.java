@@ -0,0 +1,146 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.dto.BusinessCardDto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 엑셀 가져오기 파이프라인 - 파싱 / 정규화 / 저장 단계를 분리
+ * <ul>
+ *   <li>파싱: parseExecutor에서 SAX로 읽어 CHUNK_SIZE 행씩 묶음</li>
+ *   <li>정규화: 묶음마다 normalizeExecutor에서 병렬 처리</li>
+ *   <li>저장: 호출한 스레드에서 묶음을 파일 순서대로 꺼내 처리 (중복 판정은 행 순서에 의존)</li>
+ * </ul>
+ * 단계 사이 큐는 QUEUE_CAPACITY 묶음으로 제한되어, 저장이 느리면 파싱도 기다림
+ */
+class ImportPipeline {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int QUEUE_CAPACITY = 8;
+
+    private static final CompletableFuture<List<NormalizedRow>> END = CompletableFuture.completedFuture(List.of());
+
+    /**
+     * 행을 읽어 handler로 넘기는 파서 (엑셀 행 번호 포함)
+     */
+    interface RowSource {
+        void read(ObjIntConsumer<BusinessCardDto> handler) throws IOException;
+    }
+
+    interface RowNormalizer {
+        NormalizedRow normalize(BusinessCardDto dto, int rowNumber);
+    }
+
+    private record RawRow(BusinessCardDto dto, int rowNumber) {
+    }
+
+    private final Executor parseExecutor;
+    private final Executor normalizeExecutor;
+    private final BlockingQueue<CompletableFuture<List<NormalizedRow>>> queue =
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private volatile boolean cancelled;
+
+    ImportPipeline(ImportPipelineExecutors executors) {
+        this.parseExecutor = executors.parseExecutor();
+        this.normalizeExecutor = executors.normalizeExecutor();
+    }
+
+    /**
+     * 파이프라인 실행 - sink는 호출한 스레드에서 파일 순서대로 호출됨
+     */
+    void run(RowSource source, RowNormalizer normalizer, Consumer<NormalizedRow> sink) throws IOException {
+        parseExecutor.execute(() -> parse(source, normalizer));
+
+        try {
+            while (true) {
+                CompletableFuture<List<NormalizedRow>> chunk = queue.take();
+                if (chunk == END) {
+                    break;
+                }
+                join(chunk).forEach(sink);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("가져오기가 중단되었습니다.", e);
+        } finally {
+            // 저장 단계가 실패하면 파서도 멈춤
+            cancelled = true;
+        }
+    }
+
+    private void parse(RowSource source, RowNormalizer normalizer) {
+        try {
+            List<RawRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            source.read((dto, rowNumber) -> {
+                chunk.add(new RawRow(dto, rowNumber));
+                if (chunk.size() >= CHUNK_SIZE) {
+                    submit(new ArrayList<>(chunk), normalizer);
+                    chunk.clear();
+                }
+            });
+
+            if (!chunk.isEmpty()) {
+                submit(chunk, normalizer);
+            }
+            enqueue(END);
+        } catch (CancellationException e) {
+            // 저장 단계에서 이미 실패 처리됨
+        } catch (Throwable e) {
+            try {
+                enqueue(CompletableFuture.failedFuture(e));
+            } catch (CancellationException ignored) {
+                // 저장 단계에서 이미 실패 처리됨
+            }
+        }
+    }
+
+    private void submit(List<RawRow> rows, RowNormalizer normalizer) {
+        enqueue(CompletableFuture.supplyAsync(() -> {
+            List<NormalizedRow> normalized = new ArrayList<>(rows.size());
+            for (RawRow row : rows) {
+                normalized.add(normalizer.normalize(row.dto(), row.rowNumber()));
+            }
+            return normalized;
+        }, normalizeExecutor));
+    }
+
+    // 큐가 가득 차 있으면 대기 (저장 단계가 끝났으면 중단)
+    private void enqueue(CompletableFuture<List<NormalizedRow>> chunk) {
+        try {
+            while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                if (cancelled) {
+                    throw new CancellationException();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
+    }
+
+    private List<NormalizedRow> join(CompletableFuture<List<NormalizedRow>> chunk) throws IOException {
+        try {
+            return chunk.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
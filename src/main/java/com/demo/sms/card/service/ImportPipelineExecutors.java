@@ -0,0 +1,12 @@
+package com.demo.sms.card.service;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 엑셀 가져오기 파이프라인 단계별 스레드 풀 (컨테이너가 관리하는 전용 풀, ImportExecutorConfig 참고)
+ *
+ * @param parseExecutor     가져오기 한 건당 파서 작업 하나 (SAX 읽기)
+ * @param normalizeExecutor 묶음 단위 정규화 작업
+ */
+public record ImportPipelineExecutors(Executor parseExecutor, Executor normalizeExecutor) {
+}
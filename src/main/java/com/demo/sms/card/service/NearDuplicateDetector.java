@@ -0,0 +1,234 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.dto.CardKeyRow;
+import com.demo.sms.card.util.HangulUtil;
+import com.demo.sms.card.util.StringSimilarity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+/**
+ * 유사 중복 명함 탐지 (오타, 띄어쓰기, 전화번호 표기 차이 등)
+ * <ol>
+ *   <li>블로킹: 휴대폰 끝자리, 이메일 도메인+이름 첫 초성, 이름 초성이 같은 명함끼리만 후보로 묶음</li>
+ *   <li>점수: 이름 Jaro-Winkler 유사도 + 연락처 일치(없으면 회사명 유사도)를 가중 합산</li>
+ *   <li>블록 단위로 전용 fork/join 풀에서 병렬 비교 후 union-find로 연결된 명함을 한 그룹으로 묶음
+ *       (공용 풀을 쓰지 않아 가져오기 등 다른 작업과 스레드를 다투지 않음)</li>
+ * </ol>
+ * 전체 쌍(O(n²)) 대신 블록 안의 쌍만 비교하며, 너무 큰 블록은 보조 키(이름 첫 글자 → 이름 → 회사명 첫 글자)로
+ * 다시 나누고 그래도 큰 블록만 로그를 남기고 건너뜀
+ */
+@Slf4j
+@Component
+public class NearDuplicateDetector implements DisposableBean {
+
+    private static final int PHONE_SUFFIX_LENGTH = 8;
+    private static final int MAX_BLOCK_SIZE = 300;
+
+    private static final double NAME_WEIGHT = 0.6;
+    private static final double CONTACT_WEIGHT = 0.4;
+    private static final double MATCH_THRESHOLD = 0.9;
+
+    // 큰 블록을 나눌 보조 키 (순서대로 적용)
+    private static final List<Function<Candidate, String>> SECONDARY_KEYS = List.of(
+            candidate -> candidate.name().isEmpty() ? "" : candidate.name().substring(0, 1),
+            Candidate::name,
+            candidate -> candidate.company().isEmpty() ? "" : candidate.company().substring(0, 1));
+
+    private final ForkJoinPool comparePool;
+
+    public NearDuplicateDetector(@Value("${card.duplicate.parallelism:2}") int parallelism) {
+        this.comparePool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public void destroy() {
+        comparePool.shutdownNow();
+    }
+
+    private record Candidate(long id, String name, String company, String mobileKey, String emailKey) {
+    }
+
+    private record Match(int left, int right) {
+    }
+
+    /**
+     * 유사 중복 그룹 (명함 id 목록, 2건 이상인 그룹만)
+     */
+    public List<List<Long>> findGroups(Collection<CardKeyRow> rows) {
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        for (CardKeyRow row : rows) {
+            candidates.add(new Candidate(row.getId(), normalize(row.getName()), normalize(row.getCompany()),
+                    row.getMobileKey(), row.getEmailKey()));
+        }
+
+        // 블록 안에서 유사한 쌍을 블록마다 작업 하나로 병렬로 찾음
+        ConcurrentLinkedQueue<Match> matches = new ConcurrentLinkedQueue<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int[] block : buildBlocks(candidates)) {
+            tasks.add(ForkJoinTask.adapt(() -> compareBlock(block, candidates, matches)));
+        }
+        comparePool.invoke(ForkJoinTask.adapt(() -> {
+            ForkJoinTask.invokeAll(tasks);
+        }));
+
+        // union-find로 연결 요소를 그룹으로
+        int[] parent = new int[candidates.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        for (Match match : matches) {
+            union(parent, match.left(), match.right());
+        }
+
+        Map<Integer, List<Long>> groups = new HashMap<>();
+        for (Match match : matches) {
+            groups.putIfAbsent(find(parent, match.left()), new ArrayList<>());
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            List<Long> group = groups.get(find(parent, i));
+            if (group != null) {
+                group.add(candidates.get(i).id());
+            }
+        }
+
+        return new ArrayList<>(groups.values());
+    }
+
+    private List<int[]> buildBlocks(List<Candidate> candidates) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+
+            String mobileKey = candidate.mobileKey();
+            if (mobileKey != null && mobileKey.length() >= PHONE_SUFFIX_LENGTH) {
+                addToBlock(blocks, "p:" + mobileKey.substring(mobileKey.length() - PHONE_SUFFIX_LENGTH), i);
+            }
+
+            String chosung = HangulUtil.toChosung(candidate.name());
+            String emailKey = candidate.emailKey();
+            if (emailKey != null && !chosung.isEmpty()) {
+                addToBlock(blocks, "e:" + emailKey.substring(emailKey.indexOf('@') + 1) + "|" + chosung.charAt(0), i);
+            }
+
+            if (!chosung.isEmpty()) {
+                addToBlock(blocks, "n:" + chosung, i);
+            }
+        }
+
+        List<int[]> result = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> block : blocks.entrySet()) {
+            splitBlock(block.getKey(), block.getValue(), candidates, 0, result);
+        }
+        return result;
+    }
+
+    /**
+     * 블록이 MAX_BLOCK_SIZE 이하가 될 때까지 보조 키로 나눔 (보조 키를 모두 써도 크면 건너뜀)
+     */
+    private void splitBlock(String key, List<Integer> members, List<Candidate> candidates, int depth,
+                            List<int[]> result) {
+        if (members.size() < 2) {
+            return;
+        }
+        if (members.size() <= MAX_BLOCK_SIZE) {
+            result.add(members.stream().mapToInt(Integer::intValue).toArray());
+            return;
+        }
+        if (depth == SECONDARY_KEYS.size()) {
+            log.warn("유사 중복 비교 제외: 블록 {} ({}건)이 {}건을 넘음", key, members.size(), MAX_BLOCK_SIZE);
+            return;
+        }
+
+        Function<Candidate, String> secondaryKey = SECONDARY_KEYS.get(depth);
+        Map<String, List<Integer>> subBlocks = new HashMap<>();
+        for (int index : members) {
+            addToBlock(subBlocks, secondaryKey.apply(candidates.get(index)), index);
+        }
+        for (Map.Entry<String, List<Integer>> subBlock : subBlocks.entrySet()) {
+            splitBlock(key + "/" + subBlock.getKey(), subBlock.getValue(), candidates, depth + 1, result);
+        }
+    }
+
+    private void addToBlock(Map<String, List<Integer>> blocks, String key, int index) {
+        blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(index);
+    }
+
+    private void compareBlock(int[] block, List<Candidate> candidates, Collection<Match> matches) {
+        for (int i = 0; i < block.length; i++) {
+            Candidate left = candidates.get(block[i]);
+            for (int j = i + 1; j < block.length; j++) {
+                Candidate right = candidates.get(block[j]);
+                if (score(left, right) >= MATCH_THRESHOLD) {
+                    matches.add(new Match(block[i], block[j]));
+                }
+            }
+        }
+    }
+
+    private double score(Candidate left, Candidate right) {
+        double nameScore = StringSimilarity.jaroWinkler(left.name(), right.name());
+        if (nameScore * NAME_WEIGHT + CONTACT_WEIGHT < MATCH_THRESHOLD) {
+            return 0.0;     // 연락처가 같아도 기준에 못 미침
+        }
+
+        double contactScore;
+        if (equalsNonNull(left.mobileKey(), right.mobileKey()) || equalsNonNull(left.emailKey(), right.emailKey())) {
+            contactScore = 1.0;
+        } else if (!left.company().isEmpty() && !right.company().isEmpty()) {
+            contactScore = StringSimilarity.jaroWinkler(left.company(), right.company());
+        } else {
+            contactScore = 0.0;
+        }
+
+        return nameScore * NAME_WEIGHT + contactScore * CONTACT_WEIGHT;
+    }
+
+    private boolean equalsNonNull(String a, String b) {
+        return a != null && a.equals(b);
+    }
+
+    // 공백 제거 + 소문자 (띄어쓰기/대소문자 차이 무시)
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[rootA] = rootB;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.dto.BusinessCardDto;
+
+/**
+ * 정규화를 마친 업로드 행 (error가 있으면 저장하지 않고 오류로 집계)
+ */
+record NormalizedRow(int rowNumber, BusinessCardDto dto, String name, String company, String mobilePhone,
+                     String email, String officePhone, String mobileKey, String error) {
+
+    static NormalizedRow invalid(int rowNumber, String error) {
+        return new NormalizedRow(rowNumber, null, null, null, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,70 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.datasource.PrimaryReader;
+import com.demo.sms.card.dto.RecentCard;
+import com.demo.sms.card.event.CardChangedEvent;
+import com.demo.sms.card.repository.BusinessCardRepository;
+import com.demo.sms.card.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 최근 등록 명함 캐시 - 짧은 TTL 동안 재사용하고, 명함 변경이 커밋되면 바로 무효화
+ */
+@Component
+public class RecentCardCache {
+
+    private record CachedCards(List<RecentCard> cards, int limit, long expiresAt) {
+    }
+
+    private final BusinessCardRepository businessCardRepository;
+    private final PrimaryReader primaryReader;
+    private final LruCache<Long, CachedCards> cache;
+    private final long ttlMillis;
+
+    public RecentCardCache(BusinessCardRepository businessCardRepository, PrimaryReader primaryReader,
+                           @Value("${card.recent.cache-ttl:PT30S}") Duration ttl,
+                           @Value("${card.recent.max-users:1000}") int maxUsers) {
+        this.businessCardRepository = businessCardRepository;
+        this.primaryReader = primaryReader;
+        this.cache = new LruCache<>(maxUsers);
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * 최근 등록순 limit개 ((user_id, created_at, id) 인덱스에서 LIMIT 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<RecentCard> get(Long userId, int limit) {
+        long now = System.currentTimeMillis();
+
+        CachedCards cached = cache.get(userId);
+        if (cached != null && cached.expiresAt() > now && cached.limit() >= limit) {
+            return cached.cards().subList(0, Math.min(limit, cached.cards().size()));
+        }
+
+        long generation = cache.generation(userId);
+
+        // 무효화 직후에는 방금 커밋된 변경이 복제본에 아직 없을 수 있으므로 주 DB에서 읽음
+        Supplier<List<RecentCard>> query =
+                () -> businessCardRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(limit));
+        List<RecentCard> cards = List.copyOf(cache.isInvalidated(userId) ? primaryReader.read(query) : query.get());
+
+        // 조회 도중 변경이 커밋됐으면 이번 응답에만 사용
+        cache.putIfUnchanged(userId, new CachedCards(cards, limit, now + ttlMillis), generation);
+        return cards;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCardChanged(CardChangedEvent event) {
+        cache.invalidate(event.getUserId());
+    }
+}
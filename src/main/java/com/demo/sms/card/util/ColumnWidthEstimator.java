@@ -0,0 +1,73 @@
+package com.demo.sms.card.util;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * 셀을 쓰는 동안 컬럼별 최대 표시 폭을 기록해 두었다가 마지막에 한 번만 너비를 적용
+ * (autoSizeColumn처럼 모든 셀을 다시 측정하지 않음)
+ */
+public class ColumnWidthEstimator {
+
+    private static final int PADDING = 2;
+    private static final int MAX_WIDTH = 255;   // 엑셀 컬럼 너비 상한 (글자 수)
+
+    private final int[] maxWidths;
+    private final int minWidth;
+
+    public ColumnWidthEstimator(int columns, int minWidth) {
+        this.maxWidths = new int[columns];
+        this.minWidth = minWidth;
+    }
+
+    /**
+     * 셀 값의 표시 폭 기록
+     */
+    public void track(int column, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        int width = displayWidth(value);
+        if (width > maxWidths[column]) {
+            maxWidths[column] = width;
+        }
+    }
+
+    /**
+     * 기록한 폭을 시트에 적용 (1/256 글자 단위)
+     */
+    public void applyTo(Sheet sheet) {
+        for (int i = 0; i < maxWidths.length; i++) {
+            int width = Math.min(Math.max(maxWidths[i] + PADDING, minWidth), MAX_WIDTH);
+            sheet.setColumnWidth(i, width * 256);
+        }
+    }
+
+    /**
+     * 표시 폭 계산 - 한글/한자/전각 문자는 2칸, 나머지는 1칸
+     * 여러 줄이면 가장 긴 줄 기준
+     */
+    static int displayWidth(String value) {
+        int max = 0;
+        int line = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n') {
+                max = Math.max(max, line);
+                line = 0;
+            } else if (c != '\r') {
+                line += isWide(c) ? 2 : 1;
+            }
+        }
+        return Math.max(max, line);
+    }
+
+    private static boolean isWide(char c) {
+        return (c >= 'ᄀ' && c <= 'ᅟ')      // 한글 자모
+                || (c >= '⺀' && c <= '꓏')  // CJK 부수, 가나, 호환 자모, 한자
+                || (c >= '가' && c <= '힣')  // 한글 음절
+                || (c >= '豈' && c <= '﫿')  // CJK 호환 한자
+                || (c >= '︰' && c <= '﹏')  // CJK 호환 형태
+                || (c >= '＀' && c <= '｠')  // 전각 문자
+                || (c >= '￠' && c <= '￦');
+    }
+}
@@ -0,0 +1,168 @@
+package com.demo.sms.card.util;
+
+/**
+ * 전화번호/이메일 정규화 - 중복 판정용 키 생성 (정규식 없이 한 번 훑어서 처리)
+ */
+public final class ContactNormalizer {
+
+    private static final int MIN_PHONE_DIGITS = 7;
+    private static final int MAX_PHONE_DIGITS = 15;   // E.164 최대 자릿수
+    private static final int MIN_SPLIT_DIGITS = 9;    // 지역번호 포함 국내 번호 최소 자릿수 (이후 공백에서 번호 끝)
+    private static final String KOREA_CODE = "82";
+
+    private ContactNormalizer() {
+    }
+
+    /**
+     * 한국 전화번호를 국가번호 포함 숫자열로 변환 (010-1234-5678, 01012345678, +82 10-1234-5678 -> 821012345678)
+     * 여러 번호가 적혀 있으면 첫 번째 번호만 사용 (9자리 이상 모인 뒤의 공백/문자에서 끊음), 숫자가 너무 적거나 많으면 null
+     */
+    public static String phoneKey(String raw) {
+        if (raw == null) {
+            return null;
+        }
+
+        char[] digits = new char[MAX_PHONE_DIGITS];
+        int length = 0;
+        boolean international = false;
+
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (length == digits.length) {
+                    return null;
+                }
+                digits[length++] = c;
+            } else if (c == '+' && length == 0) {
+                international = true;
+            } else if (Character.isWhitespace(c)) {
+                if (domesticLength(digits, length, international) >= MIN_SPLIT_DIGITS) {
+                    break;  // 완성된 번호 뒤 공백 - 뒤쪽은 내선이나 다른 번호
+                }
+                if (length > 0 && length < MIN_PHONE_DIGITS && !international && !isNumberPrefix(digits, length)) {
+                    length = 0; // 번호 앞에 적힌 내선 등 짧은 숫자는 버림
+                }
+            } else if (c == '-' || c == '.' || c == '(' || c == ')') {
+                // 구분자는 무시
+            } else if (length >= MIN_PHONE_DIGITS) {
+                break;      // 다음 번호나 설명이 시작됨
+            } else {
+                length = 0; // 번호가 아닌 숫자(내선 등)는 버림
+                international = false;
+            }
+        }
+
+        if (length < MIN_PHONE_DIGITS) {
+            return null;
+        }
+
+        String number = new String(digits, 0, length);
+
+        // 00 국제전화 접두어
+        if (!international && number.startsWith("00")) {
+            number = number.substring(2);
+            international = true;
+        }
+
+        if (international || number.startsWith(KOREA_CODE)) {
+            // +82 010-... 처럼 국가번호 뒤에 남은 0 제거
+            if (number.startsWith(KOREA_CODE + "0")) {
+                number = KOREA_CODE + number.substring(3);
+            }
+        } else if (number.charAt(0) == '0') {
+            number = KOREA_CODE + number.substring(1);
+        }
+
+        return number.length() <= MAX_PHONE_DIGITS ? number : null;
+    }
+
+    // 0(국내 지역/이동통신 번호, 00 국제전화) 또는 국가번호 82로 시작하는지
+    private static boolean isNumberPrefix(char[] digits, int length) {
+        return digits[0] == '0' || (length >= 2 && digits[0] == '8' && digits[1] == '2');
+    }
+
+    // 지금까지 모은 숫자를 0으로 시작하는 국내 번호로 봤을 때의 자릿수 (+82 10..., 0082 010... 모두 010... 기준)
+    private static int domesticLength(char[] digits, int length, boolean international) {
+        int start = 0;
+        if (!international && length >= 2 && digits[0] == '0' && digits[1] == '0') {
+            start = 2;
+            international = true;
+        }
+        if (!international) {
+            return length;
+        }
+
+        start += KOREA_CODE.length();
+        if (length <= start) {
+            return 0;
+        }
+        return length - start + (digits[start] == '0' ? 0 : 1);
+    }
+
+    /**
+     * 문자열에서 마지막 이메일 주소를 찾아 소문자로 반환 (없으면 null)
+     */
+    public static String emailKey(String raw) {
+        if (raw == null) {
+            return null;
+        }
+
+        for (int at = raw.lastIndexOf('@'); at > 0; at = raw.lastIndexOf('@', at - 1)) {
+            int start = at;
+            while (start > 0 && isLocalChar(raw.charAt(start - 1))) {
+                start--;
+            }
+
+            int end = at + 1;
+            while (end < raw.length() && isDomainChar(raw.charAt(end))) {
+                end++;
+            }
+            // 문장 끝의 마침표 등 제거
+            while (end > at + 1 && (raw.charAt(end - 1) == '.' || raw.charAt(end - 1) == '-')) {
+                end--;
+            }
+
+            if (start < at && hasTopLevelDomain(raw, at + 1, end)) {
+                return toLowerAscii(raw, start, end);
+            }
+        }
+
+        return null;
+    }
+
+    // 도메인 마지막 라벨이 2자 이상 영문자인지 확인
+    private static boolean hasTopLevelDomain(String raw, int from, int to) {
+        int dot = raw.lastIndexOf('.', to - 1);
+        if (dot <= from || to - dot - 1 < 2) {
+            return false;
+        }
+        for (int i = dot + 1; i < to; i++) {
+            char c = raw.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '-' || c == '_';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+    }
+
+    private static String toLowerAscii(String raw, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            char c = raw.charAt(i);
+            chars[i - start] = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new String(chars);
+    }
+}
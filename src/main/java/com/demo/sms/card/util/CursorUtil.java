@@ -0,0 +1,71 @@
+package com.demo.sms.card.util;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.stereotype.Component;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class CursorUtil {
+
+    /**
+     * 키셋 스크롤 위치를 정렬 기준과 함께 불투명한 커서 토큰으로 변환
+     */
+    public String encode(String sortBy, KeysetScrollPosition position) {
+        StringBuilder sb = new StringBuilder(sortBy)
+                .append('|')
+                .append(position.scrollsBackward() ? 'B' : 'F');
+
+        position.getKeys().forEach((key, value) -> sb.append('|')
+                .append(key)
+                .append('=')
+                .append(URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)));
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 스크롤 위치로 변환 (없거나 정렬 기준이 다르거나 손상된 경우 첫 페이지)
+     */
+    public KeysetScrollPosition decode(String cursor, String sortBy) {
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+
+            if (parts.length < 3 || !parts[0].equals(sortBy)) {
+                return ScrollPosition.keyset();
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 2; i < parts.length; i++) {
+                int separator = parts[i].indexOf('=');
+                String key = parts[i].substring(0, separator);
+                String value = URLDecoder.decode(parts[i].substring(separator + 1), StandardCharsets.UTF_8);
+
+                keys.put(key, switch (key) {
+                    case "id" -> Long.valueOf(value);
+                    case "createdAt" -> LocalDateTime.parse(value);
+                    case "name" -> value;
+                    default -> throw new IllegalArgumentException("알 수 없는 커서 키: " + key);
+                });
+            }
+
+            return "B".equals(parts[1]) ? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            return ScrollPosition.keyset();
+        }
+    }
+}
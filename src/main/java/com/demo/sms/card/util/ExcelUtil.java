@@ -1,70 +1,115 @@
 package com.demo.sms.card.util;
 
 import com.demo.sms.card.dto.BusinessCardDto;
-import com.demo.sms.card.entity.BusinessCard;
+import com.demo.sms.card.dto.ExportRow;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
-import java.io.ByteArrayOutputStream;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.ObjIntConsumer;
 
 @Component
 public class ExcelUtil {
 
+    // 공유 문자열(sharedStrings.xml) 최대 크기 (압축 해제 기준) - 읽을 때 전부 힙에 올라가므로 상한을 둠
+    private static final long MAX_SHARED_STRINGS_SIZE = 64L * 1024 * 1024;
+
     /**
-     * 엑셀 파일을 읽어서 BusinessCardDto 리스트로 변환
+     * 엑셀 파일을 SAX 방식으로 한 행씩 읽어 BusinessCardDto로 전달 (워크북 DOM을 만들지 않아 행 수와 무관하게 힙 사용량 일정)
+     * 단, 셀 문자열을 모아 둔 공유 문자열 표는 통째로 힙에 올라가므로 MAX_SHARED_STRINGS_SIZE를 넘는 파일은 거부
+     * rowHandler에는 (dto, 엑셀 행 번호) 전달, 이름이 없는 행은 건너뜀
      */
-    public List<BusinessCardDto> parseExcelFile(MultipartFile file) throws IOException {
-        List<BusinessCardDto> cardList = new ArrayList<>();
-
-        try (InputStream inputStream = file.getInputStream();
-             Workbook workbook = WorkbookFactory.create(inputStream)) {
-
-            Sheet sheet = workbook.getSheetAt(0);
+    public void readExcelFile(Path file, ObjIntConsumer<BusinessCardDto> rowHandler) throws IOException {
+        try {
+            OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+            try {
+                checkSharedStringsSize(pkg);
+
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+                StylesTable styles = reader.getStylesTable();
+
+                // 첫 번째 시트만 처리
+                Iterator<InputStream> sheets = reader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    return;
+                }
 
-            // 첫 번째 행은 헤더로 간주하고 스킵하지 않음
-            for (int i = 0; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-
-                BusinessCardDto dto = BusinessCardDto.builder()
-                        .name(getCellValueAsString(row.getCell(0)))
-                        .company(getCellValueAsString(row.getCell(1)))
-                        .department(getCellValueAsString(row.getCell(2)))
-                        .position(getCellValueAsString(row.getCell(3)))
-                        .address(getCellValueAsString(row.getCell(4)))
-                        .officePhone(getCellValueAsString(row.getCell(5)))
-                        .officeFax(getCellValueAsString(row.getCell(6)))
-                        .mobilePhone(getCellValueAsString(row.getCell(7)))
-                        .email(getCellValueAsString(row.getCell(8)))
-                        .website(getCellValueAsString(row.getCell(9)))
-                        .notes(getCellValueAsString(row.getCell(10)))
-                        // category는 Service에서 설정
-                        .build();
-
-                // 이름이 비어있지 않은 경우만 추가
-                if (dto.getName() != null && !dto.getName().trim().isEmpty()) {
-                    cardList.add(dto);
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(styles, sharedStrings,
+                            new CardRowHandler(rowHandler), new DataFormatter(), false));
+                    parser.parse(new InputSource(sheet));
                 }
+            } finally {
+                // 읽기 전용으로 연 패키지는 저장하지 않고 닫음
+                pkg.revert();
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private void checkSharedStringsSize(OPCPackage pkg) throws IOException {
+        for (PackagePart part : pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType())) {
+            if (part.getSize() > MAX_SHARED_STRINGS_SIZE) {
+                throw new IOException("엑셀 파일의 문자열 데이터가 너무 큽니다 (최대 "
+                        + MAX_SHARED_STRINGS_SIZE / (1024 * 1024) + "MB). 파일을 나누어 업로드해 주세요.");
             }
         }
+    }
 
-        return cardList;
+    /**
+     * 명함을 한 행씩 써 나가는 엑셀 작성기 생성
+     */
+    public CardSheetWriter openSheetWriter() {
+        return new CardSheetWriter();
     }
 
     /**
-     * BusinessCard 엔티티 리스트를 엑셀 파일로 변환
+     * SXSSF 기반 엑셀 작성기 - 메모리에는 최근 ROW_WINDOW 행만 두고 나머지는 임시 파일로 내보냄
      */
-    public byte[] generateExcelFile(List<BusinessCard> cardList) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+    public static class CardSheetWriter implements Closeable {
+
+        private static final int ROW_WINDOW = 100;
+        private static final int MIN_COLUMN_WIDTH = 10;
+
+        private static final String[] HEADERS = {
+                "이름", "회사", "부서", "직함", "주소",
+                "근무처 전화", "근무처 팩스", "휴대폰", "이메일",
+                "웹사이트", "분류", "비고"
+        };
 
-            Sheet sheet = workbook.createSheet("명함 목록");
+        private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        private final ColumnWidthEstimator columnWidths = new ColumnWidthEstimator(HEADERS.length, MIN_COLUMN_WIDTH);
+        private final Sheet sheet;
+        private int rowNum = 1;
+
+        private CardSheetWriter() {
+            sheet = workbook.createSheet("명함 목록");
 
             // 헤더 스타일 설정
             CellStyle headerStyle = workbook.createCellStyle();
@@ -76,60 +121,103 @@ public class ExcelUtil {
 
             // 헤더 행 생성
             Row headerRow = sheet.createRow(0);
-            String[] headers = {
-                    "이름", "회사", "부서", "직함", "주소",
-                    "근무처 전화", "근무처 팩스", "휴대폰", "이메일",
-                    "웹사이트", "분류", "비고"
-            };
-
-            for (int i = 0; i < headers.length; i++) {
+            for (int i = 0; i < HEADERS.length; i++) {
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
+                cell.setCellValue(HEADERS[i]);
                 cell.setCellStyle(headerStyle);
-                sheet.setColumnWidth(i, 4000);  // 컬럼 너비 설정
+                columnWidths.track(i, HEADERS[i]);
             }
+        }
 
-            // 데이터 행 생성
-            int rowNum = 1;
-            for (BusinessCard card : cardList) {
-                Row row = sheet.createRow(rowNum++);
-
-                row.createCell(0).setCellValue(card.getName() != null ? card.getName() : "");
-                row.createCell(1).setCellValue(card.getCompany() != null ? card.getCompany() : "");
-                row.createCell(2).setCellValue(card.getDepartment() != null ? card.getDepartment() : "");
-                row.createCell(3).setCellValue(card.getPosition() != null ? card.getPosition() : "");
-                row.createCell(4).setCellValue(card.getAddress() != null ? card.getAddress() : "");
-                row.createCell(5).setCellValue(card.getOfficePhone() != null ? card.getOfficePhone() : "");
-                row.createCell(6).setCellValue(card.getOfficeFax() != null ? card.getOfficeFax() : "");
-                row.createCell(7).setCellValue(card.getMobilePhone() != null ? card.getMobilePhone() : "");
-                row.createCell(8).setCellValue(card.getEmail() != null ? card.getEmail() : "");
-                row.createCell(9).setCellValue(card.getWebsite() != null ? card.getWebsite() : "");
-                row.createCell(10).setCellValue(card.getCategory() != null ? card.getCategory().getDisplayName() : "");
-                row.createCell(11).setCellValue(card.getNotes() != null ? card.getNotes() : "");
-            }
+        public void append(ExportRow card) {
+            Row row = sheet.createRow(rowNum++);
+
+            setCell(row, 0, card.getName());
+            setCell(row, 1, card.getCompany());
+            setCell(row, 2, card.getDepartment());
+            setCell(row, 3, card.getPosition());
+            setCell(row, 4, card.getAddress());
+            setCell(row, 5, card.getOfficePhone());
+            setCell(row, 6, card.getOfficeFax());
+            setCell(row, 7, card.getMobilePhone());
+            setCell(row, 8, card.getEmail());
+            setCell(row, 9, card.getWebsite());
+            setCell(row, 10, card.getCategory() != null ? card.getCategory().getDisplayName() : null);
+            setCell(row, 11, card.getNotes());
+        }
 
-            // 자동 너비 조정
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+        private void setCell(Row row, int column, String value) {
+            row.createCell(column).setCellValue(value != null ? value : "");
+            columnWidths.track(column, value);
+        }
 
+        public void writeTo(OutputStream outputStream) throws IOException {
+            columnWidths.applyTo(sheet);
             workbook.write(outputStream);
-            return outputStream.toByteArray();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
         }
     }
 
     /**
-     * Cell 값을 문자열로 변환하는 헬퍼 메서드 (DataFormatter 사용)
+     * 시트 SAX 이벤트를 행 단위 BusinessCardDto로 변환
      */
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return null;
+    private static class CardRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private static final int COLUMN_COUNT = 11;
+
+        private final ObjIntConsumer<BusinessCardDto> rowHandler;
+        private final String[] values = new String[COLUMN_COUNT];
+
+        CardRowHandler(ObjIntConsumer<BusinessCardDto> rowHandler) {
+            this.rowHandler = rowHandler;
         }
 
-        // DataFormatter를 사용하여 셀 형식에 맞게 문자열 변환
-        DataFormatter formatter = new DataFormatter();
-        String value = formatter.formatCellValue(cell).trim();
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(values, null);
+        }
 
-        return value.isEmpty() ? null : value;
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference == null || formattedValue == null) {
+                return;
+            }
+
+            int column = new CellReference(cellReference).getCol();
+            if (column < COLUMN_COUNT) {
+                String value = formattedValue.trim();
+                values[column] = value.isEmpty() ? null : value;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            // 첫 번째 행은 헤더로 간주하고 스킵하지 않음
+            BusinessCardDto dto = BusinessCardDto.builder()
+                    .name(values[0])
+                    .company(values[1])
+                    .department(values[2])
+                    .position(values[3])
+                    .address(values[4])
+                    .officePhone(values[5])
+                    .officeFax(values[6])
+                    .mobilePhone(values[7])
+                    .email(values[8])
+                    .website(values[9])
+                    .notes(values[10])
+                    // category는 Service에서 설정
+                    .build();
+
+            // 이름이 비어있지 않은 경우만 전달
+            if (dto.getName() != null) {
+                rowHandler.accept(dto, rowNum + 1);
+            }
+        }
     }
 }
\ No newline at end of file
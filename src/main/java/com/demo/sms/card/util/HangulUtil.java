@@ -0,0 +1,54 @@
+package com.demo.sms.card.util;
+
+/**
+ * 한글 초성 처리 헬퍼
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 완성형 한글이면 초성, 아니면 그대로 반환
+     */
+    public static char chosungOf(char c) {
+        if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+            return CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+        }
+        return c;
+    }
+
+    /**
+     * 초성 자음(ㄱ~ㅎ)인지 확인
+     */
+    public static boolean isChosung(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 문자열의 각 글자를 초성으로 변환 (길이와 위치는 원문과 동일)
+     */
+    public static String toChosung(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = chosungOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 검색어 글자와 원문 글자 비교 - 검색어가 초성이면 원문 글자의 초성과 비교
+     */
+    public static boolean matches(char queryChar, char textChar) {
+        return queryChar == textChar || (isChosung(queryChar) && chosungOf(textChar) == queryChar);
+    }
+}
@@ -0,0 +1,92 @@
+package com.demo.sms.card.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 크기 제한이 있는 LRU 캐시 (가장 오래 사용하지 않은 항목부터 제거)
+ * 값을 DB에서 구성하는 동안 변경이 커밋되면 오래된 값을 저장하지 않도록 항목마다 변경 번호를 함께 보관
+ * (변경 번호도 항목과 함께 제거되므로 캐시 크기 이상으로 늘지 않음)
+ * 무효화된 키는 값이 다시 저장될 때까지 따로 기록 - 다음 구성에서 최신 원본을 읽어야 하는지 판단
+ * <pre>
+ * long generation = cache.generation(key);
+ * V value = cache.isInvalidated(key) ? loadLatest(key) : load(key);
+ * cache.putIfUnchanged(key, value, generation);
+ * </pre>
+ */
+public class LruCache<K, V> {
+
+    // 값이 없는 항목은 구성 중인 키의 변경 번호만 기록
+    private static final class Slot<V> {
+        private V value;
+        private final long generation;
+
+        private Slot(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private final Map<K, Slot<V>> entries;
+
+    // 무효화 후 아직 다시 저장되지 않은 키 (항목과 별도로 두어 값이 있는 항목을 밀어내지 않음, 오래된 것부터 제거)
+    private final Set<K> invalidatedKeys;
+
+    // 항목을 만들 때마다 증가 - 제거 후 다시 만든 항목과 이전 항목의 번호가 겹치지 않음
+    private long nextGeneration;
+
+    public LruCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Slot<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.invalidatedKeys = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public synchronized V get(K key) {
+        Slot<V> slot = entries.get(key);
+        return slot != null ? slot.value : null;
+    }
+
+    /**
+     * 값을 구성하기 전에 호출 - 현재 변경 번호 (항목이 없으면 값 없는 항목을 만듦)
+     */
+    public synchronized long generation(K key) {
+        return entries.computeIfAbsent(key, k -> new Slot<>(++nextGeneration)).generation;
+    }
+
+    /**
+     * 마지막 무효화 이후 값이 다시 저장되지 않았는지 여부
+     */
+    public synchronized boolean isInvalidated(K key) {
+        return invalidatedKeys.contains(key);
+    }
+
+    /**
+     * generation 이후 invalidate 되지 않았을 때만 저장 (무효화됐거나 LRU로 밀려났으면 저장하지 않음)
+     */
+    public synchronized void putIfUnchanged(K key, V value, long generation) {
+        Slot<V> slot = entries.get(key);
+        if (slot != null && slot.generation == generation) {
+            slot.value = value;
+            invalidatedKeys.remove(key);
+        }
+    }
+
+    /**
+     * 값과 변경 번호를 제거하고 무효화 기록 - 구성 중이던 값은 저장되지 않음
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        invalidatedKeys.remove(key);
+        invalidatedKeys.add(key);
+    }
+}
@@ -0,0 +1,20 @@
+-- Hibernate(ddl-auto)가 테이블을 만든 뒤 매 시작 시 실행되므로 모든 문장은 여러 번 실행해도 안전해야 함
+
+-- 한 번만 실행하는 데이터 이관 작업의 완료 기록
+CREATE TABLE IF NOT EXISTS app_migration (
+    name         VARCHAR(100) NOT NULL PRIMARY KEY,
+    completed_at DATETIME     NOT NULL
+);
+
+-- 전문 검색 인덱스 (ddl-auto로는 FULLTEXT ... WITH PARSER ngram 을 만들 수 없음)
+-- InnoDB가 INSERT/UPDATE/DELETE 시 함께 갱신하므로 별도 동기화가 필요 없음
+-- 'at', 'in' 등이 포함된 ngram도 인덱싱하려면 서버 설정에서 불용어를 꺼 두어야 함 (my.cnf: innodb_ft_enable_stopword=OFF)
+SET @ft_card_search_ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.STATISTICS
+      WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'business_card' AND INDEX_NAME = 'ft_card_search') = 0,
+    'ALTER TABLE business_card ADD FULLTEXT INDEX ft_card_search (name, company, position, address) WITH PARSER ngram',
+    'DO 0');
+PREPARE ft_card_search_stmt FROM @ft_card_search_ddl;
+EXECUTE ft_card_search_stmt;
+DEALLOCATE PREPARE ft_card_search_stmt;
+SET @ft_card_search_ddl = NULL;
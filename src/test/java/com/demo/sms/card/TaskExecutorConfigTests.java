@@ -0,0 +1,56 @@
+package com.demo.sms.card;
+
+import com.demo.sms.card.datasource.ReplicaRoutingContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MVC 비동기 요청이 가져오기 전용 풀이 아닌 애플리케이션 기본 풀에서 실행되고,
+ * 그 풀에 복제본 라우팅 TaskDecorator가 적용되는지 확인 (복제본은 주 DB 주소로 대신 설정)
+ */
+@SpringBootTest(properties = "card.datasource.replicas[0].url=${spring.datasource.url}")
+class TaskExecutorConfigTests {
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    @Qualifier("importTaskExecutor")
+    private ThreadPoolTaskExecutor importTaskExecutor;
+
+    @AfterEach
+    void clearRouting() {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void mvcAsyncRequestsUseApplicationPool() {
+        Object mvcExecutor = ReflectionTestUtils.getField(handlerAdapter, "taskExecutor");
+
+        assertThat(mvcExecutor).isSameAs(applicationTaskExecutor).isNotSameAs(importTaskExecutor);
+    }
+
+    @Test
+    void applicationPoolCarriesForcedPrimary() throws Exception {
+        ReplicaRoutingContext.forcePrimary();
+
+        Future<Boolean> primaryForced = applicationTaskExecutor.submit(() -> ReplicaRoutingContext.isPrimaryForced());
+
+        assertThat(primaryForced.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
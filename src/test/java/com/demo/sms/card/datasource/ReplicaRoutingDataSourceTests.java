@@ -0,0 +1,130 @@
+package com.demo.sms.card.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB 1개 + 복제본 2개를 H2 인메모리 DB로 대신해 트랜잭션 종류별로 어느 DB에 붙는지 확인
+ * (각 DB의 node 테이블에 자기 이름을 넣어 두고 조회 결과로 구분)
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+            database("primary"), List.of(database("replica1"), database("replica2")));
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+    @AfterEach
+    void clearRouting() {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertThat(nodeIn(transaction(false))).isEqualTo("primary");
+    }
+
+    @Test
+    void queryOutsideTransactionUsesPrimary() {
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsAlternateBetweenReplicas() {
+        Set<String> nodes = new HashSet<>();
+        nodes.add(nodeIn(transaction(true)));
+        nodes.add(nodeIn(transaction(true)));
+
+        assertThat(nodes).containsExactlyInAnyOrder("replica1", "replica2");
+    }
+
+    @Test
+    void forcedPrimaryKeepsReadOnlyTransactionOnPrimary() {
+        ReplicaRoutingContext.forcePrimary();
+
+        assertThat(nodeIn(transaction(true))).isEqualTo("primary");
+    }
+
+    @Test
+    void primaryReaderUsesPrimaryInsideReplicaTransaction() {
+        PrimaryReader primaryReader = new PrimaryReader(transactionManager);
+
+        List<String> nodes = transaction(true).execute(status -> List.of(
+                jdbcTemplate.queryForObject("SELECT name FROM node", String.class),
+                primaryReader.read(() -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class))));
+
+        assertThat(nodes.get(0)).startsWith("replica");
+        assertThat(nodes.get(1)).isEqualTo("primary");
+        assertThat(ReplicaRoutingContext.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    void sessionReadsPrimaryWithinWindowAfterWrite() throws Exception {
+        ReadAfterWriteFilter filter = new ReadAfterWriteFilter(Duration.ofMinutes(1));
+        MockHttpSession session = new MockHttpSession();
+
+        assertThat(primaryForcedDuring(filter, "GET", session)).isFalse();
+        assertThat(primaryForcedDuring(filter, "POST", session)).isTrue();
+        assertThat(primaryForcedDuring(filter, "GET", session)).isTrue();
+        assertThat(primaryForcedDuring(filter, "GET", new MockHttpSession())).isFalse();
+        assertThat(ReplicaRoutingContext.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    void sessionReadsReplicaAfterWindowExpires() throws Exception {
+        ReadAfterWriteFilter filter = new ReadAfterWriteFilter(Duration.ZERO);
+        MockHttpSession session = new MockHttpSession();
+
+        assertThat(primaryForcedDuring(filter, "POST", session)).isTrue();
+        assertThat(primaryForcedDuring(filter, "GET", session)).isFalse();
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private String nodeIn(TransactionTemplate template) {
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private boolean primaryForcedDuring(ReadAfterWriteFilter filter, String method, MockHttpSession session)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/cards/list");
+        request.setSession(session);
+
+        AtomicBoolean primaryForced = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> primaryForced.set(ReplicaRoutingContext.isPrimaryForced()));
+        return primaryForced.get();
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource database = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return database;
+    }
+}
@@ -0,0 +1,163 @@
+package com.demo.sms.card.repository;
+
+import com.demo.sms.card.entity.BusinessCard.Category;
+import com.demo.sms.card.entity.User;
+import com.demo.sms.card.service.BusinessCardService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리/서비스가 실제로 생성한 SQL을 드라이버에서 가로채 EXPLAIN 하고, 옵티마이저가 고른 인덱스(key)를 확인
+ * 옵티마이저가 인덱스를 고를 만큼 다른 사용자 명함을 많이 넣어 두고 대상 사용자 명함은 일부만 둠
+ */
+@SpringBootTest(properties =
+        "spring.datasource.hikari.data-source-properties.queryInterceptors=com.demo.sms.card.repository.CapturingQueryInterceptor")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BusinessCardIndexTests {
+
+    private static final int TARGET_CARDS = 300;
+    private static final int OTHER_CARDS = 6000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BusinessCardRepository businessCardRepository;
+
+    @Autowired
+    private BusinessCardService businessCardService;
+
+    private User target;
+    private Long otherUserId;
+
+    @BeforeAll
+    void seed() {
+        Long targetId = insertUser("index-test-target@example.com");
+        otherUserId = insertUser("index-test-other@example.com");
+        insertCards(targetId, TARGET_CARDS);
+        insertCards(otherUserId, OTHER_CARDS);
+        jdbcTemplate.execute("ANALYZE TABLE business_card");
+
+        target = User.builder().id(targetId).build();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        for (Long userId : List.of(target.getId(), otherUserId)) {
+            jdbcTemplate.update("DELETE FROM business_card WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM card_summary WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    Stream<Arguments> queries() {
+        return Stream.of(
+                query("최근순 목록", "idx_card_user_created", test -> test.businessCardService.searchCards(
+                        test.target, null, null, "all", "recent", PageRequest.of(0, 20))),
+                query("오래된순 목록", "idx_card_user_created", test -> test.businessCardService.searchCards(
+                        test.target, null, null, "all", "oldest", PageRequest.of(0, 20))),
+                query("이름순 목록", "idx_card_user_name", test -> test.businessCardService.searchCards(
+                        test.target, null, null, "all", "name", PageRequest.of(0, 20))),
+                query("카테고리 목록", "idx_card_user_category_created", test -> test.businessCardService.searchCards(
+                        test.target, Category.COMPANY, null, "all", "recent", PageRequest.of(0, 20))),
+                query("커서 목록", "idx_card_user_created", test -> test.businessCardService.scrollCards(
+                        test.target, null, null, "all", "recent", null, 20)),
+                query("이름 LIKE 검색", "idx_card_user_created|idx_card_user_name", test -> test.businessCardService.searchCards(
+                        test.target, null, "kim", "name", "recent", PageRequest.of(0, 20))),
+                query("전문 검색", "ft_card_search", test -> test.businessCardService.searchCards(
+                        test.target, null, "kim", "all", "recent", PageRequest.of(0, 20))),
+                query("최근 등록 명함", "idx_card_user_created", test -> test.businessCardRepository
+                        .findByUserIdOrderByCreatedAtDescIdDesc(test.target.getId(), Limit.of(5))),
+                query("중복 휴대폰", "idx_card_user_mobile_key", test -> test.businessCardRepository
+                        .findByUserIdAndMobileKeyIn(test.target.getId(), List.of("821000000001"))),
+                query("중복 이메일", "idx_card_user_email_key", test -> test.businessCardRepository
+                        .findByUserIdAndEmailKeyIn(test.target.getId(), List.of("card1@example.com"))),
+                query("중복 휴대폰 묶음", "idx_card_user_mobile_key|idx_card_user_name", test -> test.businessCardRepository
+                        .findDuplicateMobileKeys(test.target.getId()))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void queryUsesIndex(String description, String expectedKeys, Consumer<BusinessCardIndexTests> action) {
+        CapturingQueryInterceptor.start();
+        List<String> statements;
+        try {
+            action.accept(this);
+        } finally {
+            statements = CapturingQueryInterceptor.stop();
+        }
+
+        // 목록 건수(count) 쿼리는 제외하고 명함을 읽는 SELECT만 검사
+        List<String> selects = statements.stream()
+                .map(String::trim)
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains("from business_card"))
+                .filter(sql -> !sql.toLowerCase(Locale.ROOT).contains("count("))
+                .toList();
+        assertThat(selects).as("%s: 실행된 SELECT", description).isNotEmpty();
+
+        List<String> allowed = Arrays.asList(expectedKeys.split("\\|"));
+        for (String sql : selects) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            assertThat(plan)
+                    .filteredOn(row -> String.valueOf(row.get("table")).startsWith("bc"))
+                    .as("%s: %s", description, sql)
+                    .isNotEmpty()
+                    .allSatisfy(row -> assertThat(String.valueOf(row.get("key")))
+                            .as("%s: key=%s, sql=%s", description, row.get("key"), sql)
+                            .isIn(allowed));
+        }
+    }
+
+    private static Arguments query(String description, String expectedKeys, Consumer<BusinessCardIndexTests> action) {
+        return Arguments.of(description, expectedKeys, action);
+    }
+
+    private Long insertUser(String email) {
+        jdbcTemplate.update("DELETE FROM business_card WHERE user_id IN (SELECT id FROM users WHERE email = ?)", email);
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", email);
+        jdbcTemplate.update("INSERT INTO users (email, password, name, created_at) VALUES (?, 'x', 'index test', NOW())",
+                email);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+
+    private void insertCards(Long userId, int count) {
+        Category[] categories = Category.values();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(i));
+            rows.add(new Object[]{
+                    (i % 10 == 0 ? "kim" : "lee") + i, "company" + (i % 50), categories[i % categories.length].name(),
+                    "010-0000-" + String.format("%04d", i % 200), String.format("8210000%05d", i % 200),
+                    "card" + (i % 200) + "@example.com", "card" + (i % 200) + "@example.com",
+                    userId, createdAt, createdAt});
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO business_card (name, company, category, mobile_phone, mobile_key, " +
+                "email, email_key, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
@@ -0,0 +1,62 @@
+package com.demo.sms.card.repository;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * 드라이버가 실제로 보내는 SQL(바인드 값 포함)을 기록 - 테스트에서 queryInterceptors 속성으로 등록
+ */
+public class CapturingQueryInterceptor implements QueryInterceptor {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+    private static volatile boolean capturing;
+
+    static synchronized void start() {
+        STATEMENTS.clear();
+        capturing = true;
+    }
+
+    static synchronized List<String> stop() {
+        capturing = false;
+        return new ArrayList<>(STATEMENTS);
+    }
+
+    @Override
+    public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+        if (capturing) {
+            synchronized (CapturingQueryInterceptor.class) {
+                STATEMENTS.add(sql.get());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery, T originalResultSet,
+                                               ServerSession serverSession) {
+        return null;
+    }
+}
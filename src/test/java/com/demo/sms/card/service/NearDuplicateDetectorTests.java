@@ -0,0 +1,121 @@
+package com.demo.sms.card.service;
+
+import com.demo.sms.card.dto.CardKeyRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이름 0.6 · Jaro-Winkler + 연락처/회사명 0.4 점수가 0.9 이상인 한국어 이름 쌍만 묶이는지 확인
+ */
+class NearDuplicateDetectorTests {
+
+    private final NearDuplicateDetector detector = new NearDuplicateDetector(2);
+
+    @AfterEach
+    void shutdown() {
+        detector.destroy();
+    }
+
+    @ParameterizedTest(name = "{0} / {1} (휴대폰 {2} / {3}) -> {4}")
+    @CsvSource(delimiter = ';', nullValues = "NULL", value = {
+            // 이름이 같거나 띄어쓰기만 다르면 연락처 일치로 충분
+            "김민수; 김민수; 821012345678; 821012345678; true",
+            "김민수; 김 민수; 821012345678; 821012345678; true",
+            "남궁 민수; 남궁민수; 821012345678; 821012345678; true",
+            // 네 글자 이름의 끝 글자 오타는 연락처가 같으면 묶임 (이름 0.88)
+            "남궁민수; 남궁민우; 821012345678; 821012345678; true",
+            // 세 글자 이름은 한 글자만 달라도 연락처가 같아도 기준 미달 (이름 0.82)
+            "김민수; 김민우; 821012345678; 821012345678; false",
+            "김민수; 박민수; 821012345678; 821012345678; false",
+            // 이름이 같아도 연락처와 회사가 모두 없으면 기준 미달 (0.6)
+            "김민수; 김민수; 821012345678; 821098765432; false"
+    })
+    void mobileMatch(String leftName, String rightName, String leftMobile, String rightMobile, boolean grouped) {
+        List<List<Long>> groups = detector.findGroups(List.of(
+                new Row(1L, leftName, null, leftMobile, null),
+                new Row(2L, rightName, null, rightMobile, null)));
+
+        assertThat(!groups.isEmpty()).isEqualTo(grouped);
+    }
+
+    @ParameterizedTest(name = "{0} {1} / {2} {3} -> {4}")
+    @CsvSource(delimiter = ';', value = {
+            // 연락처가 다르면 회사명 유사도로 판단
+            "김민수; 삼성전자; 김민수; 삼성전자(주); true",
+            "이영희; 한빛소프트; 이 영희; 한빛 소프트; true",
+            "김민수; 삼성전자; 김민수; 엘지전자; false",
+            "김민수; 삼성전자; 김민석; 삼성전자; false"
+    })
+    void companyMatch(String leftName, String leftCompany, String rightName, String rightCompany, boolean grouped) {
+        List<List<Long>> groups = detector.findGroups(List.of(
+                new Row(1L, leftName, leftCompany, null, null),
+                new Row(2L, rightName, rightCompany, null, null)));
+
+        assertThat(!groups.isEmpty()).isEqualTo(grouped);
+    }
+
+    @Test
+    void emailMatchIgnoresSpacing() {
+        List<List<Long>> groups = detector.findGroups(List.of(
+                new Row(1L, "이영희", null, null, "yh.lee@example.com"),
+                new Row(2L, "이 영 희", null, null, "yh.lee@example.com"),
+                new Row(3L, "이영수", null, null, "ys.lee@example.com")));
+
+        assertThat(groups).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    void oversizedBlockIsSplitBySecondaryKey() {
+        List<CardKeyRow> rows = new ArrayList<>();
+        rows.add(new Row(1L, "김민수", "한빛소프트", null, null));
+        rows.add(new Row(2L, "김민수", "한빛소프트(주)", null, null));
+
+        // 초성이 모두 ㄱㅁㅅ인 서로 다른 이름 400개 - 초성 블록 하나에 모이지만 회사/연락처가 없어 묶이지 않음
+        for (int i = 0; i < 400; i++) {
+            String name = syllable(0, i / 28, i % 28) + syllable(6, i % 21, 0) + syllable(9, (i + 7) % 21, 0);
+            rows.add(new Row(100L + i, name, null, null, null));
+        }
+
+        assertThat(detector.findGroups(rows)).containsExactly(List.of(1L, 2L));
+    }
+
+    // 초성/중성/종성 번호로 한글 음절 조합
+    private static String syllable(int chosung, int jungsung, int jongsung) {
+        return String.valueOf((char) (0xAC00 + (chosung * 21 + jungsung) * 28 + jongsung));
+    }
+
+    private record Row(Long id, String name, String company, String mobileKey, String emailKey) implements CardKeyRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getCompany() {
+            return company;
+        }
+
+        @Override
+        public String getMobileKey() {
+            return mobileKey;
+        }
+
+        @Override
+        public String getEmailKey() {
+            return emailKey;
+        }
+    }
+}
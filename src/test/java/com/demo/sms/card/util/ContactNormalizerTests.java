@@ -0,0 +1,72 @@
+package com.demo.sms.card.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContactNormalizerTests {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = ';', nullValues = "NULL", value = {
+            "010-1234-5678; 821012345678",
+            "01012345678; 821012345678",
+            "010 1234 5678; 821012345678",
+            "010.1234.5678; 821012345678",
+            "+82 10-1234-5678; 821012345678",
+            "+82 010-1234-5678; 821012345678",
+            "+82 010 1234 5678; 821012345678",
+            "0082 10 1234 5678; 821012345678",
+            "82 10 1234 5678; 821012345678",
+            "+82 2 123 4567; 8221234567",
+            "02-123-4567; 8221234567",
+            "(02) 123-4567; 8221234567",
+            "Tel. 02-123-4567; 8221234567",
+            // 내선
+            "02-123-4567 1234; 8221234567",
+            "010-1234-5678 1234; 821012345678",
+            "02-123-4567 (내선 123); 8221234567",
+            "02-123-4567 ext. 12; 8221234567",
+            "내선 123 02-123-4567; 8221234567",
+            // 여러 번호
+            "02-1234-5678, 010-9876-5432; 82212345678",
+            "010-1234-5678 / 02-123-4567; 821012345678",
+            "010-1234-5678 010-9876-5432; 821012345678",
+            // 번호가 아님
+            "1234; NULL",
+            "내선 123; NULL",
+            "0101234567890123456; NULL",
+            "없음; NULL"
+    })
+    void phoneKey(String raw, String expected) {
+        assertThat(ContactNormalizer.phoneKey(raw)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = ';', nullValues = "NULL", value = {
+            "kim@example.com; kim@example.com",
+            "Kim.Lee@Example.COM; kim.lee@example.com",
+            "<kim@example.com>; kim@example.com",
+            "mail: kim@example.com.; kim@example.com",
+            "kim+card@mail.example.co.kr; kim+card@mail.example.co.kr",
+            // 여러 이메일 - 마지막 주소
+            "a@b.com, c@d.co.kr; c@d.co.kr",
+            "kim@example.com (회사) lee@home.net; lee@home.net",
+            "kim@example.com / lee@localhost; kim@example.com",
+            // 이메일이 아님
+            "kim@localhost; NULL",
+            "kim@; NULL",
+            "@example.com; NULL",
+            "없음; NULL"
+    })
+    void emailKey(String raw, String expected) {
+        assertThat(ContactNormalizer.emailKey(raw)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(nullValues = "NULL", value = {"NULL"})
+    void nullInput(String raw) {
+        assertThat(ContactNormalizer.phoneKey(raw)).isNull();
+        assertThat(ContactNormalizer.emailKey(raw)).isNull();
+    }
+}
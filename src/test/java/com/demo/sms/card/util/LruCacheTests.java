@@ -0,0 +1,47 @@
+package com.demo.sms.card.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTests {
+
+    private final LruCache<Long, String> cache = new LruCache<>(2);
+
+    @Test
+    void valueBuiltBeforeInvalidationIsNotStored() {
+        long generation = cache.generation(1L);
+        cache.invalidate(1L);
+        cache.putIfUnchanged(1L, "stale", generation);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.isInvalidated(1L)).isTrue();
+    }
+
+    @Test
+    void storingValueClearsInvalidation() {
+        cache.invalidate(1L);
+
+        long generation = cache.generation(1L);
+        cache.putIfUnchanged(1L, "fresh", generation);
+
+        assertThat(cache.get(1L)).isEqualTo("fresh");
+        assertThat(cache.isInvalidated(1L)).isFalse();
+    }
+
+    @Test
+    void invalidationsDoNotEvictValues() {
+        cache.putIfUnchanged(1L, "one", cache.generation(1L));
+        cache.putIfUnchanged(2L, "two", cache.generation(2L));
+
+        // 무효화 기록도 크기 제한 - 가장 오래된 기록부터 제거
+        cache.invalidate(3L);
+        cache.invalidate(4L);
+        cache.invalidate(5L);
+
+        assertThat(cache.get(1L)).isEqualTo("one");
+        assertThat(cache.get(2L)).isEqualTo("two");
+        assertThat(cache.isInvalidated(3L)).isFalse();
+        assertThat(cache.isInvalidated(5L)).isTrue();
+    }
+}